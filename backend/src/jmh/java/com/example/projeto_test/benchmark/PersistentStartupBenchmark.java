@@ -0,0 +1,116 @@
+package com.example.projeto_test.benchmark;
+
+import com.example.projeto_test.ProjetoTestApplication;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Tempo até a aplicação ficar pronta (retorno de {@code SpringApplication.run},
+ * após o ApplicationReadyEvent) no perfil persistent, com 1M de tarefas já
+ * gravadas no arquivo H2. A carga é feita uma vez por trial; cada medição é
+ * uma subida a frio do contexto sobre o mesmo arquivo.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistentStartupBenchmark {
+
+    private static final int TOTAL_LINHAS = 1_000_000;
+    private static final int LOTE = 10_000;
+
+    private Path diretorio;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void seed() throws IOException {
+        diretorio = Files.createTempDirectory("tarefas-startup-bench");
+
+        // Primeira subida aplica as migrações; a carga usa JDBC direto com ids explícitos
+        try (ConfigurableApplicationContext carga = start()) {
+            JdbcTemplate jdbc = carga.getBean(JdbcTemplate.class);
+            LocalDateTime base = LocalDateTime.now().minusYears(2);
+            String descricao = "Descrição de tarefa gravada para o benchmark de inicialização.";
+
+            List<Object[]> linhas = new ArrayList<>(LOTE);
+            for (int i = 1; i <= TOTAL_LINHAS; i++) {
+                Timestamp data = Timestamp.valueOf(base.plusSeconds(i * 30L));
+                linhas.add(new Object[] {
+                        (long) i,
+                        "Tarefa persistida " + i,
+                        descricao,
+                        Tarefa.StatusTarefa.values()[i % 3].name(),
+                        data,
+                        data,
+                        (long) i
+                });
+                if (linhas.size() == LOTE) {
+                    insert(jdbc, linhas);
+                    linhas.clear();
+                }
+            }
+            insert(jdbc, linhas);
+            jdbc.execute("ALTER SEQUENCE tarefas_seq RESTART WITH " + (TOTAL_LINHAS + 1));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanUp() throws IOException {
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            arquivos.sorted(Comparator.reverseOrder()).forEach(arquivo -> arquivo.toFile().delete());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext timeToReady() {
+        context = start();
+        return context;
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(ProjetoTestApplication.class)
+                .profiles("persistent")
+                .properties(
+                        "tarefas.storage.dir=" + diretorio.toAbsolutePath(),
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.springframework.web=WARN")
+                .run();
+    }
+
+    private static void insert(JdbcTemplate jdbc, List<Object[]> linhas) {
+        if (linhas.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate("INSERT INTO tarefas (id, titulo, descricao, status, data_criacao, data_atualizacao, versao_alteracao) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", linhas);
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.projeto_test.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão do log por requisição em dois modos:
+ * <ul>
+ *   <li>{@code sincrono}: configuração atual, duas linhas INFO formatadas
+ *       (controller + service) e o SQL em DEBUG, escritos na thread da requisição;</li>
+ *   <li>{@code assincrono}: perfil async-logging, controller/service em WARN e um
+ *       evento chave/valor amostrado a 1% entregue ao {@link AsyncAppender}.</li>
+ * </ul>
+ * Os dois modos gravam em arquivo temporário para o custo de I/O ser comparável.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RequestLoggingBenchmark {
+
+    private static final String PADRAO_CONSOLE =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n";
+    private static final String PADRAO_CHAVE_VALOR = "%d{ISO8601} %p %logger %m %kvp%n";
+    private static final String SQL_FORMATADO = """
+            
+                select
+                    t1_0.id,
+                    t1_0.data_atualizacao,
+                    t1_0.data_criacao,
+                    t1_0.descricao,
+                    t1_0.status,
+                    t1_0.titulo
+                from
+                    tarefas t1_0
+                where
+                    t1_0.id=?""";
+    private static final double TAXA_AMOSTRAGEM = 0.01;
+
+    @Param({"sincrono", "assincrono"})
+    private String modo;
+
+    private LoggerContext context;
+    private Path arquivo;
+    private Logger controllerLog;
+    private Logger serviceLog;
+    private Logger sqlLog;
+    private Logger requestLog;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        arquivo = Files.createTempFile("request-logging-bench", ".log");
+        context = new LoggerContext();
+        context.start();
+
+        boolean assincrono = "assincrono".equals(modo);
+        Appender<ILoggingEvent> appender = assincrono
+                ? async(fileAppender(PADRAO_CHAVE_VALOR))
+                : fileAppender(PADRAO_CONSOLE);
+
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        controllerLog = context.getLogger("com.example.projeto_test.controller.TarefaController");
+        serviceLog = context.getLogger("com.example.projeto_test.buisness.TarefaService");
+        sqlLog = context.getLogger("org.hibernate.SQL");
+        requestLog = context.getLogger("com.example.projeto_test.infrastructure.logging.RequestLogSamplingFilter");
+
+        if (assincrono) {
+            context.getLogger("com.example.projeto_test.controller").setLevel(Level.WARN);
+            context.getLogger("com.example.projeto_test.buisness").setLevel(Level.WARN);
+            context.getLogger("org.hibernate.SQL").setLevel(Level.WARN);
+        } else {
+            context.getLogger("org.hibernate.SQL").setLevel(Level.DEBUG);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Benchmark
+    public void requisicao() {
+        long id = ThreadLocalRandom.current().nextLong(1, 100_000);
+
+        controllerLog.info("Searching for task with ID: {}", id);
+        serviceLog.info("Searching for task with ID: {}", id);
+        sqlLog.debug(SQL_FORMATADO);
+        serviceLog.debug("Task found: {}", "Tarefa de benchmark");
+
+        if (requestLog.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < TAXA_AMOSTRAGEM) {
+            requestLog.atInfo()
+                    .setMessage("request")
+                    .addKeyValue("method", "GET")
+                    .addKeyValue("route", "/tasks/{id}")
+                    .addKeyValue("status", 200)
+                    .addKeyValue("durationMs", 1L)
+                    .log();
+        }
+    }
+
+    private FileAppender<ILoggingEvent> fileAppender(String padrao) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(padrao);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(arquivo.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    private AsyncAppender async(Appender<ILoggingEvent> destino) {
+        // Mesmos parâmetros do logback-spring.xml no perfil async-logging
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(8192);
+        appender.setDiscardingThreshold(1638);
+        appender.setNeverBlock(true);
+        appender.setIncludeCallerData(false);
+        appender.addAppender(destino);
+        appender.start();
+        return appender;
+    }
+}
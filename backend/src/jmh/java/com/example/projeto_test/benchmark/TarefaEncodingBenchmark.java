@@ -0,0 +1,94 @@
+package com.example.projeto_test.benchmark;
+
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.web.BinaryEncodingConfig;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Custo de codificar {@code List<TarefaResponseDTO>} em JSON (atual), CBOR e
+ * Smile, com e sem gzip. O tamanho de cada combinação é impresso no início do
+ * trial; o tempo de codificação é o resultado do benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TarefaEncodingBenchmark {
+
+    @Param({"100", "10000"})
+    private int tamanho;
+
+    @Param({"json", "cbor", "smile"})
+    private String formato;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private List<TarefaResponseDTO> respostas;
+    private ObjectWriter writer;
+    private final OutputStream descarte = OutputStream.nullOutputStream();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        LocalDateTime agora = LocalDateTime.now();
+        respostas = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            respostas.add(TarefaResponseDTO.builder()
+                    .id((long) i + 1)
+                    .titulo("Tarefa de benchmark " + i)
+                    .descricao("Implementar endpoints REST com validação e testes")
+                    .status(Tarefa.StatusTarefa.values()[i % 3])
+                    .dataCriacao(agora.minusMinutes(i))
+                    .dataAtualizacao(agora)
+                    .versaoAlteracao((long) i + 1)
+                    .build());
+        }
+
+        // Mesma configuração do Spring Boot (JavaTimeModule, datas ISO no JSON)
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper mapper = switch (formato) {
+            case "cbor" -> BinaryEncodingConfig.binaryMapper(json, new CBORFactory());
+            case "smile" -> BinaryEncodingConfig.binaryMapper(json, new SmileFactory());
+            default -> json;
+        };
+        writer = mapper.writerFor(new TypeReference<List<TarefaResponseDTO>>() { });
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        encode(bytes);
+        System.out.printf("%n[tamanho=%d formato=%s gzip=%s] %d bytes (%.1f por tarefa)%n",
+                tamanho, formato, gzip, bytes.size(), (double) bytes.size() / tamanho);
+    }
+
+    @Benchmark
+    public void encode() throws IOException {
+        encode(descarte);
+    }
+
+    private void encode(OutputStream destino) throws IOException {
+        if (gzip) {
+            try (GZIPOutputStream comprimido = new GZIPOutputStream(destino)) {
+                writer.writeValue(comprimido, respostas);
+            }
+        } else {
+            writer.writeValue(destino, respostas);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.projeto_test.benchmark;
+
+import com.example.projeto_test.dto.TarefaDTO;
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Custo por requisição do caminho quente das listagens: mapeamento
+ * entidade/DTO e serialização Jackson da lista. Rodar com {@code -prof gc}
+ * para obter a taxa de alocação (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TarefaMappingBenchmark {
+
+    private static final String DESCRICAO_CURTA = "Implementar endpoints REST";
+    private static final String DESCRICAO_MAXIMA = "Descrição longa de tarefa. ".repeat(40).substring(0, 1000);
+
+    @Param({"1", "100", "10000"})
+    private int tamanho;
+
+    @Param({"curta", "maxima"})
+    private String descricao;
+
+    private List<Tarefa> tarefas;
+    private List<TarefaDTO> tarefasDTO;
+    private List<TarefaResponseDTO> respostas;
+    private ObjectWriter listWriter;
+    private final OutputStream descarte = OutputStream.nullOutputStream();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String texto = "maxima".equals(descricao) ? DESCRICAO_MAXIMA : DESCRICAO_CURTA;
+        LocalDateTime agora = LocalDateTime.now();
+
+        tarefas = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            tarefas.add(Tarefa.builder()
+                    .id((long) i + 1)
+                    .titulo("Tarefa de benchmark " + i)
+                    .descricao(texto)
+                    .status(Tarefa.StatusTarefa.values()[i % 3])
+                    .dataCriacao(agora.minusMinutes(i))
+                    .dataAtualizacao(agora)
+                    .build());
+        }
+        tarefasDTO = tarefas.stream().map(TarefaDTO::fromEntity).collect(Collectors.toList());
+        respostas = tarefas.stream().map(TarefaResponseDTO::fromEntity).collect(Collectors.toList());
+
+        // Mesma configuração base do ObjectMapper do Spring Boot (JavaTimeModule, datas ISO)
+        listWriter = Jackson2ObjectMapperBuilder.json().build()
+                .writerFor(new TypeReference<List<TarefaResponseDTO>>() { });
+    }
+
+    @Benchmark
+    public List<TarefaResponseDTO> entityToResponse() {
+        return tarefas.stream()
+                .map(TarefaResponseDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Tarefa> dtoToEntity() {
+        return tarefasDTO.stream()
+                .map(TarefaDTO::toEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void serializeResponseList() throws IOException {
+        listWriter.writeValue(descarte, respostas);
+    }
+
+    @Benchmark
+    public void mapAndSerialize() throws IOException {
+        listWriter.writeValue(descarte, entityToResponse());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.projeto_test.benchmark;
+
+import com.example.projeto_test.ProjetoTestApplication;
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compara as leituras por entidade gerenciada + cópia para DTO com as projeções
+ * por construtor do {@link TarefaRepository}, sobre 100k linhas no H2.
+ * Rodar com {@code -prof gc} para comparar gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TarefaReadProjectionBenchmark {
+
+    private static final int TOTAL_LINHAS = 100_000;
+    private static final int TAMANHO_PAGINA = 500;
+
+    private ConfigurableApplicationContext context;
+    private TarefaRepository tarefaRepository;
+    private TransactionTemplate leitura;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProjetoTestApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench_projection;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "tarefas.search.trigram.enabled=false")
+                .run();
+
+        tarefaRepository = context.getBean(TarefaRepository.class);
+        leitura = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        leitura.setReadOnly(true);
+
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TarefaResponseDTO> statusWithEntities() {
+        return leitura.execute(tx -> tarefaRepository.findByStatus(Tarefa.StatusTarefa.PENDENTE).stream()
+                .map(TarefaResponseDTO::fromEntity)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<TarefaResponseDTO> statusWithProjection() {
+        return leitura.execute(tx -> tarefaRepository.findResponsesByStatus(Tarefa.StatusTarefa.PENDENTE));
+    }
+
+    @Benchmark
+    public List<TarefaResponseDTO> allWithEntities() {
+        return leitura.execute(tx -> tarefaRepository.findAllByOrderByDataCriacaoDesc().stream()
+                .map(TarefaResponseDTO::fromEntity)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<TarefaResponseDTO> allWithProjection() {
+        return leitura.execute(tx -> tarefaRepository.findAllResponsesOrderByDataCriacaoDesc());
+    }
+
+    @Benchmark
+    public List<TarefaResponseDTO> firstPageWithProjection() {
+        return leitura.execute(tx -> tarefaRepository.findFirstPage(Limit.of(TAMANHO_PAGINA)));
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        String descricao = "Descrição de tarefa para benchmark de leitura. ".repeat(10);
+        LocalDateTime base = LocalDateTime.now().minusDays(365);
+
+        List<Object[]> linhas = new ArrayList<>(TOTAL_LINHAS);
+        for (int i = 1; i <= TOTAL_LINHAS; i++) {
+            Timestamp data = Timestamp.valueOf(base.plusSeconds(i * 60L));
+            linhas.add(new Object[] {
+                    (long) i,
+                    "Tarefa de benchmark " + i,
+                    descricao,
+                    Tarefa.StatusTarefa.values()[i % 3].name(),
+                    data,
+                    data,
+                    (long) i
+            });
+        }
+
+        jdbc.batchUpdate("INSERT INTO tarefas (id, titulo, descricao, status, data_criacao, data_atualizacao, versao_alteracao) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", linhas);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.projeto_test.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramas por operação, em microssegundos. O tempo de resposta é medido a
+ * partir do instante em que a requisição deveria ter saído segundo a taxa
+ * fixa, não de quando saiu: um servidor parado atrasa as requisições seguintes,
+ * e esse atraso entra na latência em vez de sumir (correção de coordinated
+ * omission). O tempo de serviço, medido do envio real, fica ao lado para
+ * comparação.
+ */
+final class LatencyReport {
+
+    private static final long MAXIMO_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int DIGITOS = 3;
+    private static final double MICROS_POR_MS = 1000.0;
+
+    private final Map<Operacao, Medicoes> porOperacao = new EnumMap<>(Operacao.class);
+    private final LongAdder descartadas = new LongAdder();
+
+    LatencyReport() {
+        for (Operacao operacao : Operacao.values()) {
+            porOperacao.put(operacao, new Medicoes());
+        }
+    }
+
+    void record(Operacao operacao, long planejadoNanos, long enviadoNanos, long concluidoNanos, int status) {
+        Medicoes medicoes = porOperacao.get(operacao);
+        medicoes.resposta.recordValue(micros(concluidoNanos - planejadoNanos));
+        medicoes.servico.recordValue(micros(concluidoNanos - enviadoNanos));
+        medicoes.status.computeIfAbsent(status, chave -> new LongAdder()).increment();
+    }
+
+    /** Requisição não enviada por exceder max-in-flight; o servidor já não acompanha a taxa. */
+    void recordDropped() {
+        descartadas.increment();
+    }
+
+    void print(PrintStream saida) {
+        saida.printf("%-9s %9s %9s %9s %9s %9s %9s %9s  %s%n",
+                "operation", "count", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99", "status");
+        Histogram total = new Histogram(MAXIMO_MICROS, DIGITOS);
+        Histogram totalServico = new Histogram(MAXIMO_MICROS, DIGITOS);
+        for (Map.Entry<Operacao, Medicoes> entrada : porOperacao.entrySet()) {
+            Medicoes medicoes = entrada.getValue();
+            if (medicoes.resposta.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(medicoes.resposta);
+            totalServico.add(medicoes.servico);
+            linha(saida, nome(entrada.getKey()), medicoes.resposta, medicoes.servico,
+                    new TreeMap<>(medicoes.status).toString());
+        }
+        if (total.getTotalCount() > 0) {
+            linha(saida, "all", total, totalServico, "");
+        }
+        if (descartadas.sum() > 0) {
+            saida.printf("%d requests dropped at max-in-flight: results understate latency%n", descartadas.sum());
+        }
+    }
+
+    /** Um .hgrm por operação e tipo de medição, no formato do HdrHistogram plotter. */
+    void write(Path diretorio) throws IOException {
+        Files.createDirectories(diretorio);
+        for (Map.Entry<Operacao, Medicoes> entrada : porOperacao.entrySet()) {
+            Medicoes medicoes = entrada.getValue();
+            if (medicoes.resposta.getTotalCount() == 0) {
+                continue;
+            }
+            String nome = nome(entrada.getKey());
+            write(diretorio.resolve(nome + "-response.hgrm"), medicoes.resposta);
+            write(diretorio.resolve(nome + "-service.hgrm"), medicoes.servico);
+        }
+    }
+
+    private static void write(Path arquivo, Histogram histograma) throws IOException {
+        try (PrintStream saida = new PrintStream(Files.newOutputStream(arquivo))) {
+            histograma.outputPercentileDistribution(saida, MICROS_POR_MS);
+        }
+    }
+
+    private static void linha(PrintStream saida, String nome, Histogram histograma, Histogram servico, String status) {
+        saida.printf("%-9s %9d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                nome,
+                histograma.getTotalCount(),
+                histograma.getValueAtPercentile(50.0) / MICROS_POR_MS,
+                histograma.getValueAtPercentile(90.0) / MICROS_POR_MS,
+                histograma.getValueAtPercentile(99.0) / MICROS_POR_MS,
+                histograma.getValueAtPercentile(99.9) / MICROS_POR_MS,
+                histograma.getMaxValue() / MICROS_POR_MS,
+                servico.getValueAtPercentile(99.0) / MICROS_POR_MS,
+                status);
+    }
+
+    private static String nome(Operacao operacao) {
+        return operacao.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static long micros(long nanos) {
+        return Math.min(MAXIMO_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    private static final class Medicoes {
+
+        private final Histogram resposta = new ConcurrentHistogram(MAXIMO_MICROS, DIGITOS);
+        private final Histogram servico = new ConcurrentHistogram(MAXIMO_MICROS, DIGITOS);
+        // Status HTTP, ou 0 para falha de conexão/timeout
+        private final Map<Integer, LongAdder> status = new ConcurrentHashMap<>();
+    }
+}
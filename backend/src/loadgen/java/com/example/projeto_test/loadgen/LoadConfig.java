@@ -0,0 +1,94 @@
+package com.example.projeto_test.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parâmetros da carga, lidos de argumentos {@code chave=valor}:
+ * <pre>
+ * base-url=http://localhost:8080  rate=200  duration=60s  warmup=10s
+ * mix=create:15,list:30,get:30,search:10,complete:5,cancel:5,delete:5
+ * seed-tasks=500  timeout=10s  max-in-flight=10000  output=target/loadgen  seed=42
+ * </pre>
+ * Durações aceitam os sufixos {@code ms}, {@code s} e {@code m}.
+ */
+record LoadConfig(URI baseUrl,
+                  int rate,
+                  Duration duration,
+                  Duration warmup,
+                  Map<Operacao, Integer> mix,
+                  int seedTasks,
+                  Duration timeout,
+                  int maxInFlight,
+                  Path output,
+                  long seed) {
+
+    static final String DEFAULT_MIX = "create:15,list:30,get:30,search:10,complete:5,cancel:5,delete:5";
+
+    static LoadConfig parse(String[] args) {
+        Map<String, String> valores = new HashMap<>();
+        // Pelo exec:exec todos chegam num argumento só, separados por espaço
+        for (String arg : String.join(" ", args).trim().split("\\s+")) {
+            if (arg.isEmpty()) {
+                continue;
+            }
+            int separador = arg.indexOf('=');
+            if (separador <= 0) {
+                throw new IllegalArgumentException("Expected key=value argument, got: " + arg);
+            }
+            valores.put(arg.substring(0, separador).replaceFirst("^--", ""), arg.substring(separador + 1));
+        }
+
+        LoadConfig config = new LoadConfig(
+                URI.create(valores.getOrDefault("base-url", "http://localhost:8080")),
+                Integer.parseInt(valores.getOrDefault("rate", "200")),
+                duration(valores.getOrDefault("duration", "60s")),
+                duration(valores.getOrDefault("warmup", "10s")),
+                mix(valores.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(valores.getOrDefault("seed-tasks", "500")),
+                duration(valores.getOrDefault("timeout", "10s")),
+                Integer.parseInt(valores.getOrDefault("max-in-flight", "10000")),
+                Path.of(valores.getOrDefault("output", "target/loadgen")),
+                Long.parseLong(valores.getOrDefault("seed", "42")));
+        if (config.rate() < 1) {
+            throw new IllegalArgumentException("rate must be at least 1 request per second");
+        }
+        return config;
+    }
+
+    static Map<Operacao, Integer> mix(String texto) {
+        Map<Operacao, Integer> pesos = new EnumMap<>(Operacao.class);
+        for (String parte : texto.split(",")) {
+            String[] chaveValor = parte.trim().split(":");
+            if (chaveValor.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + parte);
+            }
+            int peso = Integer.parseInt(chaveValor[1].trim());
+            if (peso < 0) {
+                throw new IllegalArgumentException("Mix weight cannot be negative: " + parte);
+            }
+            pesos.put(Operacao.fromName(chaveValor[0].trim()), peso);
+        }
+        if (pesos.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must have at least one positive weight");
+        }
+        return pesos;
+    }
+
+    static Duration duration(String texto) {
+        if (texto.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(texto.substring(0, texto.length() - 2)));
+        }
+        if (texto.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(texto.substring(0, texto.length() - 1)));
+        }
+        if (texto.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(texto.substring(0, texto.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(texto));
+    }
+}
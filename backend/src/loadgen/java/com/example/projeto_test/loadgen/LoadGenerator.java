@@ -0,0 +1,217 @@
+package com.example.projeto_test.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * Gerador de carga em modelo aberto contra uma instância já em execução: as
+ * requisições saem na taxa fixa de {@code rate} por segundo, independente de as
+ * anteriores terem respondido, como chegam usuários reais. Cada chegada sorteia
+ * uma operação do {@code mix}. Ver {@link LoadConfig} para os parâmetros e
+ * {@link LatencyReport} para a medição.
+ *
+ * <pre>
+ * ./mvnw -Ploadgen compile exec:exec -Dloadgen.args="rate=500 duration=2m"
+ * </pre>
+ */
+public final class LoadGenerator {
+
+    private static final long NANOS_POR_SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+    // Termos de busca; cada título criado leva um deles
+    private static final String[] PALAVRAS = {
+            "relatorio", "deploy", "revisao", "reuniao", "backup", "migracao", "testes", "cliente"
+    };
+
+    private final LoadConfig config;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyReport report = new LatencyReport();
+    private final TarefaIdPool pendentes;
+    private final Semaphore emVoo;
+    private final Operacao[] sorteio;
+    // Usado só pela thread que agenda as chegadas
+    private final SplittableRandom random;
+    private final AtomicLong sequencia = new AtomicLong();
+
+    LoadGenerator(LoadConfig config, HttpClient http) {
+        this.config = config;
+        this.http = http;
+        this.random = new SplittableRandom(config.seed());
+        this.pendentes = new TarefaIdPool(random.split());
+        this.emVoo = new Semaphore(config.maxInFlight());
+        this.sorteio = sorteio(config.mix());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.parse(args);
+        try (HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(config.timeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            new LoadGenerator(config, http).run();
+        }
+    }
+
+    void run() throws IOException, InterruptedException {
+        System.out.printf("Target %s - %d req/s for %ds after %ds warmup, mix %s%n",
+                config.baseUrl(), config.rate(), config.duration().toSeconds(), config.warmup().toSeconds(), config.mix());
+        seed();
+
+        long inicio = System.nanoTime();
+        long fimAquecimento = inicio + config.warmup().toNanos();
+        long fim = fimAquecimento + config.duration().toNanos();
+        for (long chegada = 0; ; chegada++) {
+            long planejado = inicio + chegada * NANOS_POR_SEGUNDO / config.rate();
+            if (planejado >= fim) {
+                break;
+            }
+            long espera;
+            while ((espera = planejado - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            // Atrasada ou não, a chegada mantém o instante planejado: o atraso conta na latência
+            fire(sorteio[random.nextInt(sorteio.length)], planejado, planejado >= fimAquecimento);
+        }
+
+        long limiteDreno = config.timeout().toMillis() + TimeUnit.SECONDS.toMillis(5);
+        if (!emVoo.tryAcquire(config.maxInFlight(), limiteDreno, TimeUnit.MILLISECONDS)) {
+            System.out.println("Some requests were still in flight at the end and are not in the report");
+        }
+
+        report.print(System.out);
+        report.write(config.output());
+        System.out.printf("Percentile distributions written to %s%n", config.output().toAbsolutePath());
+    }
+
+    /** Tarefas pendentes iniciais, para GET, COMPLETE, CANCEL e DELETE terem alvo desde o começo. */
+    private void seed() throws IOException, InterruptedException {
+        for (int i = 0; i < config.seedTasks(); i++) {
+            HttpResponse<String> resposta = http.send(create(), HttpResponse.BodyHandlers.ofString());
+            if (resposta.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with HTTP " + resposta.statusCode() + ": " + resposta.body());
+            }
+            pendentes.add(id(resposta.body()));
+        }
+    }
+
+    private void fire(Operacao sorteada, long planejado, boolean medir) {
+        if (!emVoo.tryAcquire()) {
+            if (medir) {
+                report.recordDropped();
+            }
+            return;
+        }
+
+        Operacao operacao = sorteada;
+        HttpRequest requisicao = request(operacao);
+        if (requisicao == null) {
+            // Sem tarefa pendente disponível: cria uma, mantendo a taxa de chegada
+            operacao = Operacao.CREATE;
+            requisicao = create();
+        }
+
+        Operacao executada = operacao;
+        long enviado = System.nanoTime();
+        http.sendAsync(requisicao, HttpResponse.BodyHandlers.ofString()).whenComplete((resposta, erro) -> {
+            try {
+                long concluido = System.nanoTime();
+                int status = erro == null ? resposta.statusCode() : 0;
+                if (executada == Operacao.CREATE && status == 201) {
+                    pendentes.add(id(resposta.body()));
+                }
+                if (medir) {
+                    report.record(executada, planejado, enviado, concluido, status);
+                }
+            } finally {
+                emVoo.release();
+            }
+        });
+    }
+
+    private HttpRequest request(Operacao operacao) {
+        return switch (operacao) {
+            case CREATE -> create();
+            case LIST -> get("/tasks?limit=50");
+            case SEARCH -> get("/tasks/search?titulo="
+                    + URLEncoder.encode(PALAVRAS[random.nextInt(PALAVRAS.length)], StandardCharsets.UTF_8));
+            case GET -> withId(pendentes.peek(), id -> get("/tasks/" + id));
+            case COMPLETE -> withId(pendentes.take(), id -> patch("/tasks/" + id + "/complete"));
+            case CANCEL -> withId(pendentes.take(), id -> patch("/tasks/" + id + "/cancel"));
+            case DELETE -> withId(pendentes.take(), id -> builder("/tasks/" + id).DELETE().build());
+        };
+    }
+
+    private HttpRequest create() {
+        long numero = sequencia.incrementAndGet();
+        String corpo;
+        try {
+            corpo = objectMapper.writeValueAsString(Map.of(
+                    "titulo", "Carga " + numero + " " + PALAVRAS[(int) (numero % PALAVRAS.length)],
+                    "descricao", "Criada pelo gerador de carga"));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return builder("/tasks")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+
+    private HttpRequest get(String caminho) {
+        return builder(caminho).GET().build();
+    }
+
+    private HttpRequest patch(String caminho) {
+        return builder(caminho).method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest.Builder builder(String caminho) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl() + caminho))
+                .timeout(config.timeout())
+                .header("Accept", "application/json");
+    }
+
+    private static HttpRequest withId(OptionalLong id, LongFunction<HttpRequest> requisicao) {
+        return id.isPresent() ? requisicao.apply(id.getAsLong()) : null;
+    }
+
+    private long id(String corpo) {
+        try {
+            JsonNode tarefa = objectMapper.readTree(corpo);
+            return tarefa.get("id").asLong();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unexpected create response: " + corpo, ex);
+        }
+    }
+
+    /** Cada operação aparece tantas vezes quanto o seu peso; a chegada sorteia uma posição. */
+    private static Operacao[] sorteio(Map<Operacao, Integer> mix) {
+        List<Operacao> posicoes = new ArrayList<>();
+        mix.forEach((operacao, peso) -> {
+            for (int i = 0; i < peso; i++) {
+                posicoes.add(operacao);
+            }
+        });
+        return posicoes.toArray(Operacao[]::new);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.projeto_test.loadgen;
+
+import java.util.Locale;
+
+/** Operações do mix, cada uma mapeada a um endpoint de TarefaController ou TarefaSearchController. */
+enum Operacao {
+    CREATE,
+    LIST,
+    GET,
+    SEARCH,
+    COMPLETE,
+    CANCEL,
+    DELETE;
+
+    static Operacao fromName(String nome) {
+        try {
+            return valueOf(nome.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown operation in mix: " + nome);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.projeto_test.loadgen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * IDs de tarefas pendentes criadas pela carga. GET sorteia um sem remover;
+ * COMPLETE, CANCEL e DELETE retiram o sorteado para não repetir a transição.
+ */
+final class TarefaIdPool {
+
+    private final List<Long> ids = new ArrayList<>();
+    private final RandomGenerator random;
+
+    TarefaIdPool(RandomGenerator random) {
+        this.random = random;
+    }
+
+    synchronized void add(long id) {
+        ids.add(id);
+    }
+
+    synchronized OptionalLong peek() {
+        return ids.isEmpty() ? OptionalLong.empty() : OptionalLong.of(ids.get(random.nextInt(ids.size())));
+    }
+
+    /** Troca o sorteado com o último para remover em O(1). */
+    synchronized OptionalLong take() {
+        if (ids.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        int indice = random.nextInt(ids.size());
+        long id = ids.get(indice);
+        ids.set(indice, ids.get(ids.size() - 1));
+        ids.remove(ids.size() - 1);
+        return OptionalLong.of(id);
+    }
+
+    synchronized int size() {
+        return ids.size();
+    }
+}
@@ -2,8 +2,16 @@ package com.example.projeto_test;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import com.example.projeto_test.infrastructure.metrics.TarefaTimedAspect;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableAsync
+// Cache por fora da transação e por dentro do timer das operações
+@EnableCaching(order = TarefaTimedAspect.ORDEM + 1)
+@EnableScheduling
 public class ProjetoTestApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,95 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.infrastructure.entitys.TarefaTombstone;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaArquivoRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Move tarefas concluídas ou canceladas sem alteração há mais de
+ * {@code tarefas.archive.min-age} para {@code tarefas_arquivo}, em lotes de
+ * {@code chunk-size} com uma transação curta cada, para não segurar bloqueios
+ * sobre a tabela inteira. Opera no banco principal, por isso fica desligado
+ * com o particionamento ativo. Para a sincronização delta a tarefa arquivada
+ * sai de {@code tarefas} como uma exclusão: cada uma ganha um tombstone com
+ * versão própria na mesma transação da remoção.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${tarefas.archive.enabled:false} and !${tarefas.sharding.enabled:false}")
+public class TarefaArchiver {
+
+    private final TarefaArquivoRepository arquivoRepository;
+    private final TarefaTombstoneRepository tombstoneRepository;
+    private final TarefaVersionAllocator versionAllocator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration idadeMinima;
+    private final int chunkSize;
+
+    public TarefaArchiver(TarefaArquivoRepository arquivoRepository,
+                          TarefaTombstoneRepository tombstoneRepository,
+                          TarefaVersionAllocator versionAllocator,
+                          TransactionTemplate transactionTemplate,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${tarefas.archive.min-age:30d}") Duration idadeMinima,
+                          @Value("${tarefas.archive.chunk-size:500}") int chunkSize) {
+        this.arquivoRepository = arquivoRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.versionAllocator = versionAllocator;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.idadeMinima = idadeMinima;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${tarefas.archive.interval-ms:3600000}",
+            fixedDelayString = "${tarefas.archive.interval-ms:3600000}")
+    public void archive() {
+        long inicio = System.currentTimeMillis();
+        LocalDateTime limite = LocalDateTime.now().minus(idadeMinima);
+
+        long total = 0;
+        int movidas;
+        do {
+            movidas = transactionTemplate.execute(status -> archiveChunk(limite));
+            total += movidas;
+        } while (movidas == chunkSize);
+
+        if (total > 0) {
+            log.info("Archived {} finished tasks older than {} in {} ms",
+                    total, idadeMinima, System.currentTimeMillis() - inicio);
+        }
+    }
+
+    private int archiveChunk(LocalDateTime limite) {
+        List<Long> ids = arquivoRepository.lockArchivableIds(limite, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        arquivoRepository.copyFromTarefas(ids, agora);
+        arquivoRepository.deleteFromTarefas(ids);
+        tombstoneRepository.saveAll(ids.stream()
+                .map(id -> TarefaTombstone.builder()
+                        .tarefaId(id)
+                        .versaoAlteracao(versionAllocator.allocate())
+                        .dataRemocao(agora)
+                        .build())
+                .toList());
+        eventPublisher.publishEvent(new TarefasArquivadasEvent(ids));
+        return ids.size();
+    }
+}
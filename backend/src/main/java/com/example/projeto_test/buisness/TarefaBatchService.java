@@ -0,0 +1,185 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaBatchItemResultDTO;
+import com.example.projeto_test.dto.TarefaBatchItemResultDTO.ItemStatus;
+import com.example.projeto_test.dto.TarefaBatchResultDTO;
+import com.example.projeto_test.dto.TarefaDTO;
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.exception.BusinessRuleException;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Importação em massa: lê o array JSON item a item, valida cada tarefa e grava
+ * em blocos, cada bloco em sua própria transação via {@link TarefaService#createTasks}.
+ * Se o JSON quebrar no meio, o resultado traz o que já foi gravado e termina
+ * com uma entrada {@code MALFORMED} no índice onde a leitura parou.
+ */
+@Slf4j
+@Service
+public class TarefaBatchService {
+
+    private final TarefaService tarefaService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public TarefaBatchService(TarefaService tarefaService,
+                              ObjectMapper objectMapper,
+                              Validator validator,
+                              @Value("${tarefas.batch.chunk-size:500}") int chunkSize) {
+        this.tarefaService = tarefaService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    public TarefaBatchResultDTO importTasks(InputStream body) throws IOException {
+        List<TarefaBatchItemResultDTO> resultados = new ArrayList<>();
+        List<TarefaDTO> bloco = new ArrayList<>(chunkSize);
+        List<Integer> indicesBloco = new ArrayList<>(chunkSize);
+        int index = 0;
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BusinessRuleException(
+                    "BATCH_NOT_ARRAY",
+                    String.valueOf(parser.currentToken()),
+                    "Request body must be a JSON array of tasks"
+                );
+            }
+
+            try {
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, "Unexpected end of input");
+                    }
+
+                    JsonNode node = parser.readValueAsTree();
+                    TarefaBatchItemResultDTO invalido = parseItem(index, node, bloco);
+                    if (invalido != null) {
+                        resultados.add(invalido);
+                    } else {
+                        indicesBloco.add(index);
+                    }
+
+                    if (bloco.size() >= chunkSize) {
+                        flushChunk(bloco, indicesBloco, resultados);
+                    }
+                    index++;
+                }
+            } catch (JsonParseException ex) {
+                // Os blocos anteriores já foram gravados: o cliente precisa dos ids
+                // deles, então o erro vira a última entrada em vez de uma exceção
+                log.warn("Malformed batch body at item {}: {}", index, ex.getOriginalMessage());
+                flushChunk(bloco, indicesBloco, resultados);
+                resultados.add(TarefaBatchItemResultDTO.builder()
+                        .index(index)
+                        .status(ItemStatus.MALFORMED)
+                        .errors(Map.of("body", "Malformed JSON; this item and the ones after it were not processed"))
+                        .build());
+            }
+        }
+
+        flushChunk(bloco, indicesBloco, resultados);
+        resultados.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+
+        int criadas = (int) resultados.stream()
+                .filter(resultado -> resultado.getStatus() == ItemStatus.CREATED)
+                .count();
+        log.info("Batch import finished - {} items, {} created", resultados.size(), criadas);
+
+        return TarefaBatchResultDTO.builder()
+                .total(resultados.size())
+                .created(criadas)
+                .failed(resultados.size() - criadas)
+                .items(resultados)
+                .build();
+    }
+
+    private TarefaBatchItemResultDTO parseItem(int index, JsonNode node, List<TarefaDTO> bloco) {
+        TarefaDTO tarefaDTO;
+        try {
+            tarefaDTO = objectMapper.treeToValue(node, TarefaDTO.class);
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            String campo = ex instanceof JsonMappingException jsonEx && !jsonEx.getPath().isEmpty()
+                    ? jsonEx.getPath().get(0).getFieldName()
+                    : "root";
+            return invalidItem(index, Map.of(campo, "Invalid value"));
+        }
+
+        if (tarefaDTO == null) {
+            return invalidItem(index, Map.of("root", "Task cannot be null"));
+        }
+
+        Set<ConstraintViolation<TarefaDTO>> violacoes = validator.validate(tarefaDTO);
+        if (!violacoes.isEmpty()) {
+            Map<String, String> erros = new HashMap<>();
+            for (ConstraintViolation<TarefaDTO> violacao : violacoes) {
+                erros.put(violacao.getPropertyPath().toString(), violacao.getMessage());
+            }
+            return invalidItem(index, erros);
+        }
+
+        bloco.add(tarefaDTO);
+        return null;
+    }
+
+    private void flushChunk(List<TarefaDTO> bloco,
+                            List<Integer> indicesBloco,
+                            List<TarefaBatchItemResultDTO> resultados) {
+        if (bloco.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<TarefaResponseDTO> criadas = tarefaService.createTasks(bloco);
+            for (int i = 0; i < criadas.size(); i++) {
+                resultados.add(TarefaBatchItemResultDTO.builder()
+                        .index(indicesBloco.get(i))
+                        .status(ItemStatus.CREATED)
+                        .id(criadas.get(i).getId())
+                        .build());
+            }
+        } catch (RuntimeException ex) {
+            log.error("Batch chunk of {} tasks failed and was rolled back", bloco.size(), ex);
+            for (Integer indice : indicesBloco) {
+                resultados.add(TarefaBatchItemResultDTO.builder()
+                        .index(indice)
+                        .status(ItemStatus.FAILED)
+                        .errors(Map.of("exception", ex.getClass().getSimpleName()))
+                        .build());
+            }
+        }
+
+        bloco.clear();
+        indicesBloco.clear();
+    }
+
+    private TarefaBatchItemResultDTO invalidItem(int index, Map<String, String> erros) {
+        return TarefaBatchItemResultDTO.builder()
+                .index(index)
+                .status(ItemStatus.INVALID)
+                .errors(erros)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.projeto_test.buisness;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Mantém o cache de {@link TarefaService#getTaskById} coerente com as escritas:
+ * atualizações substituem a entrada e remoções a descartam, sempre após o commit.
+ * Leituras concorrentes que repovoem um valor antigo ficam limitadas pelo TTL.
+ */
+@Slf4j
+@Component
+public class TarefaCacheSynchronizer {
+
+    private final CacheManager cacheManager;
+
+    public TarefaCacheSynchronizer(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTarefaChanged(TarefaChangedEvent event) {
+        Cache cache = cacheManager.getCache(TarefaService.TAREFAS_CACHE);
+        if (cache == null) {
+            return;
+        }
+
+        switch (event.getType()) {
+            case UPDATED -> cache.put(event.getId(), event.getTarefa());
+            case DELETED -> cache.evict(event.getId());
+            case CREATED -> {
+                // Tarefas novas entram no cache na primeira leitura
+            }
+        }
+        log.debug("Cache entry for task {} synchronized after {}", event.getId(), event.getType());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTarefasArquivadas(TarefasArquivadasEvent event) {
+        Cache cache = cacheManager.getCache(TarefaService.TAREFAS_CACHE);
+        if (cache != null) {
+            event.getIds().forEach(cache::evict);
+        }
+    }
+}
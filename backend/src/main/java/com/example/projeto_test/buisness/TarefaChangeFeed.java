@@ -0,0 +1,241 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.dto.TarefaStreamEventDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Feed de alterações para {@code GET /tasks/stream} (Server-Sent Events).
+ * <p>
+ * Cada alteração confirmada recebe um id sequencial, é serializada uma única vez
+ * e guardada num anel com as últimas {@code ring-size} alterações, usado para
+ * retomar conexões pelo {@code Last-Event-ID}. O id enviado leva a época de
+ * inicialização ({@code <época>-<sequência>}), como os ETags: a sequência
+ * recomeça a cada restart, e um id de outra época sempre pede resync. Cada conexão tem sua própria fila
+ * limitada; quem não acompanha o ritmo perde a fila e recebe um evento
+ * {@code resync}, sinal para recarregar a lista. O envio roda em threads
+ * virtuais, então um cliente lento não segura quem publica nem os demais.
+ */
+@Slf4j
+@Component
+public class TarefaChangeFeed {
+
+    public static final String RESYNC_EVENT = "resync";
+    public static final String ARCHIVED_TYPE = "ARCHIVED";
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+    private final int subscriberBuffer;
+    private final StreamEvent[] anel;
+    private final Object lock = new Object();
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+    private final ExecutorService envio = Executors.newVirtualThreadPerTaskExecutor();
+    private final String epoca = Long.toString(System.currentTimeMillis());
+    private long proximoId = 1;
+
+    private record StreamEvent(long id, String nome, String json) {
+    }
+
+    public TarefaChangeFeed(ObjectMapper objectMapper,
+                            @Value("${tarefas.stream.ring-size:1024}") int ringSize,
+                            @Value("${tarefas.stream.subscriber-buffer:256}") int subscriberBuffer,
+                            @Value("${tarefas.stream.timeout-ms:1800000}") long timeoutMs) {
+        this.objectMapper = objectMapper;
+        this.anel = new StreamEvent[ringSize];
+        this.subscriberBuffer = subscriberBuffer;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Assinante assinante = new Assinante(emitter);
+        emitter.onCompletion(() -> assinantes.remove(assinante));
+        emitter.onTimeout(assinante::close);
+        emitter.onError(erro -> assinante.close());
+
+        synchronized (lock) {
+            // Replay e registro sob o mesmo lock da publicação: nenhum evento fica
+            // entre o fim do replay e o início do fluxo ao vivo
+            replay(assinante, lastEventId);
+            assinantes.add(assinante);
+        }
+        assinante.schedule();
+
+        log.debug("Stream subscriber connected - last event id: {}, subscribers: {}", lastEventId, assinantes.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTarefaChanged(TarefaChangedEvent event) {
+        publish(event.getType().name(), event.getId(), event.getTarefa());
+    }
+
+    /** Tarefas arquivadas saem da lista sem {@code historico}: um evento por tarefa. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTarefasArquivadas(TarefasArquivadasEvent event) {
+        event.getIds().forEach(id -> publish(ARCHIVED_TYPE, id, null));
+    }
+
+    private void publish(String tipo, Long id, TarefaResponseDTO tarefa) {
+        String nome = tipo.toLowerCase(Locale.ROOT);
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(TarefaStreamEventDTO.builder()
+                    .type(tipo)
+                    .id(id)
+                    .tarefa(tarefa)
+                    .build());
+        } catch (JsonProcessingException ex) {
+            log.error("Could not serialize change event for task {}", id, ex);
+            return;
+        }
+
+        synchronized (lock) {
+            StreamEvent streamEvent = new StreamEvent(proximoId++, nome, json);
+            anel[(int) (streamEvent.id() % anel.length)] = streamEvent;
+            for (Assinante assinante : assinantes) {
+                assinante.offer(streamEvent);
+            }
+        }
+    }
+
+    /**
+     * Comentário SSE periódico: mantém proxies com a conexão aberta e revela
+     * clientes desconectados, que saem na primeira escrita com erro.
+     */
+    @Scheduled(fixedRateString = "${tarefas.stream.heartbeat-ms:30000}")
+    public void heartbeat() {
+        assinantes.forEach(Assinante::heartbeat);
+    }
+
+    public int subscriberCount() {
+        return assinantes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        assinantes.forEach(assinante -> assinante.emitter.complete());
+        envio.shutdownNow();
+    }
+
+    private void replay(Assinante assinante, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+
+        String[] partes = lastEventId.trim().split("-", 2);
+        long ultimo;
+        try {
+            ultimo = partes.length == 2 && partes[0].equals(epoca) ? Long.parseLong(partes[1]) : -1;
+        } catch (NumberFormatException ex) {
+            ultimo = -1;
+        }
+
+        long maisAntigo = Math.max(1, proximoId - anel.length);
+        if (ultimo < maisAntigo - 1 || ultimo >= proximoId) {
+            // Outra época (restart), id inválido ou fora do anel: o cliente precisa recarregar
+            assinante.requestResync();
+            return;
+        }
+        for (long id = ultimo + 1; id < proximoId; id++) {
+            assinante.offer(anel[(int) (id % anel.length)]);
+        }
+    }
+
+    private final class Assinante {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> fila = new ArrayBlockingQueue<>(subscriberBuffer);
+        private final AtomicBoolean agendado = new AtomicBoolean();
+        private volatile boolean resyncPendente;
+        private volatile boolean heartbeatPendente;
+        private volatile boolean encerrado;
+
+        private Assinante(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(StreamEvent streamEvent) {
+            if (!fila.offer(streamEvent)) {
+                // Backpressure: descarta o atraso acumulado em vez de crescer sem limite
+                fila.clear();
+                resyncPendente = true;
+                log.debug("Stream subscriber lagging, sending resync");
+            }
+            schedule();
+        }
+
+        void requestResync() {
+            resyncPendente = true;
+        }
+
+        void heartbeat() {
+            heartbeatPendente = true;
+            schedule();
+        }
+
+        void schedule() {
+            if (!encerrado && agendado.compareAndSet(false, true)) {
+                envio.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!encerrado) {
+                    if (resyncPendente) {
+                        resyncPendente = false;
+                        emitter.send(SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON));
+                    }
+                    StreamEvent streamEvent = fila.poll();
+                    if (streamEvent == null) {
+                        break;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(epoca + "-" + streamEvent.id())
+                            .name(streamEvent.nome())
+                            .data(streamEvent.json(), MediaType.APPLICATION_JSON));
+                }
+                if (heartbeatPendente) {
+                    heartbeatPendente = false;
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            } catch (IOException | IllegalStateException ex) {
+                close();
+                return;
+            } finally {
+                agendado.set(false);
+            }
+
+            // Algo chegou entre o último poll e a liberação do agendamento
+            if (!fila.isEmpty() || resyncPendente || heartbeatPendente) {
+                schedule();
+            }
+        }
+
+        void close() {
+            encerrado = true;
+            assinantes.remove(this);
+            fila.clear();
+        }
+    }
+}
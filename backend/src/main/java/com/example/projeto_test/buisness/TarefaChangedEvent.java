@@ -0,0 +1,38 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Publicado pelo {@link TarefaService} a cada escrita. Os ouvintes usam
+ * {@code @TransactionalEventListener} para reagir somente após o commit.
+ */
+@Getter
+@AllArgsConstructor
+public class TarefaChangedEvent {
+
+    private final Type type;
+    private final Long id;
+    private final TarefaResponseDTO tarefa;
+    private final Tarefa.StatusTarefa statusAnterior;
+
+    public static TarefaChangedEvent created(TarefaResponseDTO tarefa) {
+        return new TarefaChangedEvent(Type.CREATED, tarefa.getId(), tarefa, null);
+    }
+
+    public static TarefaChangedEvent updated(TarefaResponseDTO tarefa, Tarefa.StatusTarefa statusAnterior) {
+        return new TarefaChangedEvent(Type.UPDATED, tarefa.getId(), tarefa, statusAnterior);
+    }
+
+    public static TarefaChangedEvent deleted(Long id, Tarefa.StatusTarefa statusAnterior) {
+        return new TarefaChangedEvent(Type.DELETED, id, null, statusAnterior);
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
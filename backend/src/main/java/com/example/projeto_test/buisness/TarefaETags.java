@@ -0,0 +1,126 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaFields;
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.web.BinaryEncodingConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ETags fortes calculados sem montar a resposta: por tarefa, a partir de
+ * {@code dataAtualizacao}; para listas, a partir de uma versão da tabela que
+ * avança após o commit de cada escrita. A época de inicialização entra no valor
+ * para que uma reinicialização nunca reutilize ETags antigos.
+ */
+@Component
+public class TarefaETags {
+
+    /**
+     * Ordem dos listeners AFTER_COMMIT: quem serve listas da memória (modelo de
+     * leitura, índice de títulos) aplica a alteração antes de a versão da tabela
+     * avançar. Na ordem inversa, uma leitura entre os dois devolveria as linhas
+     * antigas sob o ETag novo.
+     */
+    public static final int ORDEM_LEITURAS = 0;
+    public static final int ORDEM_VERSAO = 100;
+
+    private final TarefaRepository tarefaRepository;
+    private final CacheManager cacheManager;
+    private final long epoca = System.currentTimeMillis();
+    private final AtomicLong versaoTabela = new AtomicLong();
+
+    public TarefaETags(TarefaRepository tarefaRepository, CacheManager cacheManager) {
+        this.tarefaRepository = tarefaRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Deve ser lido antes da consulta: uma escrita concorrente só pode tornar o
+     * ETag mais antigo que os dados, nunca o contrário.
+     */
+    public String forList() {
+        return "\"l" + epoca + "-" + versaoTabela.get() + "\"";
+    }
+
+    public Optional<String> forTask(Long id) {
+        Cache cache = cacheManager.getCache(TarefaService.TAREFAS_CACHE);
+        TarefaResponseDTO emCache = cache != null ? cache.get(id, TarefaResponseDTO.class) : null;
+
+        Optional<LocalDateTime> dataAtualizacao = emCache != null
+                ? Optional.ofNullable(emCache.getDataAtualizacao())
+                : tarefaRepository.findDataAtualizacaoById(id);
+
+        return dataAtualizacao.map(data -> {
+            long nanos = data.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + data.getNano();
+            return "\"t" + id + "-" + nanos + "\"";
+        });
+    }
+
+    /**
+     * Um ETag forte identifica bytes exatos: respostas CBOR e Smile recebem um
+     * sufixo para não coincidir com o JSON do mesmo recurso. Segue o primeiro tipo
+     * reconhecido no {@code Accept}, a mesma escolha da negociação de conteúdo
+     * para clientes que pedem um único formato.
+     */
+    public static String forRepresentation(String etag, String accept) {
+        String sufixo = representationSuffix(accept);
+        return sufixo.isEmpty() ? etag : etag.substring(0, etag.length() - 1) + sufixo + "\"";
+    }
+
+    /** Projeções parciais ({@code ?fields=}) são outra representação do mesmo recurso. */
+    public static String forFields(String etag, TarefaFields fields) {
+        return fields == null ? etag : etag.substring(0, etag.length() - 1) + "-" + fields.key() + "\"";
+    }
+
+    private static String representationSuffix(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return "";
+        }
+        try {
+            for (MediaType tipo : MediaType.parseMediaTypes(accept)) {
+                // */* e application/* caem no primeiro conversor, o JSON
+                if (tipo.isWildcardType() || tipo.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    return "";
+                }
+                if (tipo.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                    return "-cbor";
+                }
+                if (tipo.isCompatibleWith(BinaryEncodingConfig.APPLICATION_SMILE)) {
+                    return "-smile";
+                }
+            }
+        } catch (InvalidMediaTypeException ex) {
+            return "";
+        }
+        return "";
+    }
+
+    @Order(ORDEM_VERSAO)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTarefaChanged(TarefaChangedEvent event) {
+        versaoTabela.incrementAndGet();
+    }
+
+    /** O arquivamento tira linhas das listas sem histórico, então também muda a versão. */
+    @Order(ORDEM_VERSAO)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTarefasArquivadas(TarefasArquivadasEvent event) {
+        versaoTabela.incrementAndGet();
+    }
+
+    /** Listas com {@code historico=true} incluem o arquivo: são outra representação. */
+    public static String forHistory(String etag, boolean historico) {
+        return historico ? etag.substring(0, etag.length() - 1) + "-h\"" : etag;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.web.BinaryEncodingConfig;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class TarefaExportService {
+
+    private final TarefaRepository tarefaRepository;
+    private final JsonFactory jsonFactory;
+    private final ObjectWriter tarefaWriter;
+    private final JsonFactory cborFactory;
+    private final ObjectWriter cborWriter;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TarefaExportService(TarefaRepository tarefaRepository, ObjectMapper objectMapper) {
+        this.tarefaRepository = tarefaRepository;
+        this.jsonFactory = objectMapper.getFactory();
+        this.tarefaWriter = objectMapper.writerFor(TarefaResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        
+        ObjectMapper cborMapper = BinaryEncodingConfig.binaryMapper(objectMapper, new CBORFactory());
+        this.cborFactory = cborMapper.getFactory();
+        this.cborWriter = cborMapper.writerFor(TarefaResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Escreve todas as tarefas como NDJSON (uma por linha) lendo do cursor JDBC,
+     * sem materializar a tabela em memória. Cada entidade é desanexada do contexto
+     * de persistência logo após ser serializada.
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(OutputStream out) throws IOException {
+        log.info("Exporting tasks as NDJSON");
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+            return export(generator, tarefaWriter, true);
+        }
+    }
+
+    /**
+     * Mesma exportação como sequência CBOR (RFC 8742): itens CBOR concatenados,
+     * sem separador.
+     */
+    @Transactional(readOnly = true)
+    public long exportTasksCbor(OutputStream out) throws IOException {
+        log.info("Exporting tasks as CBOR sequence");
+
+        try (JsonGenerator generator = cborFactory.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            return export(generator, cborWriter, false);
+        }
+    }
+
+    private long export(JsonGenerator generator, ObjectWriter writer, boolean quebraDeLinha) throws IOException {
+        long total = 0;
+
+        try (Stream<Tarefa> tarefas = tarefaRepository.streamAllForExport()) {
+            Iterator<Tarefa> iterator = tarefas.iterator();
+            while (iterator.hasNext()) {
+                Tarefa tarefa = iterator.next();
+                writer.writeValue(generator, TarefaResponseDTO.fromEntity(tarefa));
+                if (quebraDeLinha) {
+                    generator.writeRaw('\n');
+                }
+                entityManager.detach(tarefa);
+                total++;
+            }
+        }
+
+        log.info("Export finished - {} tasks written", total);
+        return total;
+    }
+}
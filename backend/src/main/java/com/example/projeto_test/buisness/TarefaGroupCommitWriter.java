@@ -0,0 +1,165 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaDTO;
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit para criação de tarefas: as requisições entram numa fila limitada
+ * e uma thread dedicada grava em lotes via {@link TarefaService#createTasks}, uma
+ * transação por lote. O lote fecha ao atingir {@code max-batch-size} ou quando o
+ * prazo ({@code max-delay-us}) contado a partir do primeiro item expira. Cada
+ * chamador recebe seu resultado quando o commit do lote termina.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tarefas.write.group-commit.enabled", havingValue = "true")
+public class TarefaGroupCommitWriter {
+
+    private static final long POLL_OCIOSO_MS = 100;
+
+    private final TarefaService tarefaService;
+    private final BlockingQueue<PendingCreate> fila;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long responseTimeoutMillis;
+    private volatile boolean running;
+    private Thread worker;
+
+    private record PendingCreate(TarefaDTO tarefa, CompletableFuture<TarefaResponseDTO> resultado) {
+    }
+
+    public TarefaGroupCommitWriter(TarefaService tarefaService,
+                                   @Value("${tarefas.write.group-commit.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${tarefas.write.group-commit.max-batch-size:64}") int maxBatchSize,
+                                   @Value("${tarefas.write.group-commit.max-delay-us:500}") long maxDelayMicros,
+                                   @Value("${tarefas.write.group-commit.response-timeout-ms:5000}") long responseTimeoutMillis) {
+        this.tarefaService = tarefaService;
+        this.fila = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(maxDelayMicros);
+        this.responseTimeoutMillis = responseTimeoutMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("tarefas-group-commit").daemon().start(this::run);
+        log.info("Group commit writer started - batch size {}, max delay {} us",
+                maxBatchSize, TimeUnit.NANOSECONDS.toMicros(maxDelayNanos));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+
+        // Itens aceitos na corrida com o fim do worker não ficam sem resposta
+        PendingCreate restante;
+        while ((restante = fila.poll()) != null) {
+            restante.resultado().completeExceptionally(new RejectedExecutionException("Group commit writer stopped"));
+        }
+    }
+
+    /**
+     * Enfileira a criação. Lança {@link RejectedExecutionException} se a fila
+     * estiver cheia ou o writer estiver parando. Se o resultado não sair em
+     * {@code response-timeout-ms} (writer travado numa conexão, por exemplo), o
+     * future falha com {@link java.util.concurrent.TimeoutException}; um item que
+     * expirou ainda na fila não é mais gravado.
+     */
+    public CompletableFuture<TarefaResponseDTO> submit(TarefaDTO tarefaDTO) {
+        CompletableFuture<TarefaResponseDTO> resultado = new CompletableFuture<>();
+        if (!running || !fila.offer(new PendingCreate(tarefaDTO, resultado))) {
+            throw new RejectedExecutionException("Task creation queue is full");
+        }
+        return resultado.orTimeout(responseTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void run() {
+        List<PendingCreate> lote = new ArrayList<>(maxBatchSize);
+        // Ao parar, esvazia o que já foi aceito antes de sair
+        while (running || !fila.isEmpty()) {
+            try {
+                PendingCreate primeiro = fila.poll(POLL_OCIOSO_MS, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                collect(lote, System.nanoTime() + maxDelayNanos);
+                flush(lote);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                lote.forEach(pendente -> pendente.resultado().completeExceptionally(
+                        new RejectedExecutionException("Group commit writer interrupted")));
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void collect(List<PendingCreate> lote, long prazo) throws InterruptedException {
+        while (lote.size() < maxBatchSize) {
+            // Primeiro o que já está na fila, sem esperar
+            if (fila.drainTo(lote, maxBatchSize - lote.size()) > 0) {
+                continue;
+            }
+            long restante = prazo - System.nanoTime();
+            if (restante <= 0) {
+                return;
+            }
+            PendingCreate proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proximo == null) {
+                return;
+            }
+            lote.add(proximo);
+        }
+    }
+
+    private void flush(List<PendingCreate> lote) {
+        // Quem já desistiu por timeout recebeu 503 e pode repetir: não grava
+        lote.removeIf(pendente -> pendente.resultado().isDone());
+        if (lote.isEmpty()) {
+            return;
+        }
+
+        List<TarefaDTO> tarefas = new ArrayList<>(lote.size());
+        lote.forEach(pendente -> tarefas.add(pendente.tarefa()));
+
+        List<TarefaResponseDTO> criadas;
+        try {
+            criadas = tarefaService.createTasks(tarefas);
+        } catch (RuntimeException ex) {
+            // Um item ruim não deve derrubar os outros: refaz um a um, cada um na sua transação
+            log.warn("Group commit batch of {} tasks failed, retrying individually: {}", lote.size(), ex.getMessage());
+            lote.forEach(this::createIndividually);
+            return;
+        }
+
+        for (int i = 0; i < lote.size(); i++) {
+            lote.get(i).resultado().complete(criadas.get(i));
+        }
+    }
+
+    private void createIndividually(PendingCreate pendente) {
+        try {
+            pendente.resultado().complete(tarefaService.createTask(pendente.tarefa()));
+        } catch (RuntimeException ex) {
+            pendente.resultado().completeExceptionally(ex);
+        }
+    }
+}
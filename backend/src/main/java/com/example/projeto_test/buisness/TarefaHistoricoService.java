@@ -0,0 +1,96 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaCursor;
+import com.example.projeto_test.dto.TarefaPageDTO;
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.exception.TarefaNotFoundException;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaArquivoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Leituras com {@code historico=true}: o resultado do {@link TarefaService} sobre
+ * a tabela quente mais as tarefas arquivadas. Sem o parâmetro, o arquivo nunca
+ * é consultado.
+ */
+@Slf4j
+@Service
+public class TarefaHistoricoService {
+
+    private static final Comparator<TarefaResponseDTO> RECENTES = Comparator
+            .comparing(TarefaResponseDTO::getDataCriacao)
+            .thenComparing(TarefaResponseDTO::getId)
+            .reversed();
+
+    private final TarefaService tarefaService;
+    private final TarefaArquivoRepository arquivoRepository;
+
+    public TarefaHistoricoService(TarefaService tarefaService, TarefaArquivoRepository arquivoRepository) {
+        this.tarefaService = tarefaService;
+        this.arquivoRepository = arquivoRepository;
+    }
+
+    // Sem transação própria: a falha do getTaskById marcaria uma transação compartilhada para rollback
+    public TarefaResponseDTO getTaskById(Long id) {
+        try {
+            return tarefaService.getTaskById(id);
+        } catch (TarefaNotFoundException ex) {
+            log.debug("Task {} not in the hot table, checking archive", id);
+            return arquivoRepository.findResponseById(id).orElseThrow(() -> ex);
+        }
+    }
+
+    /**
+     * A página global está contida na página da tabela quente unida às
+     * {@code limit + 1} primeiras arquivadas a partir do mesmo cursor; os ids são
+     * únicos entre as duas tabelas, então o cursor continua valendo.
+     */
+    @Transactional(readOnly = true)
+    public TarefaPageDTO<TarefaResponseDTO> getTasksPage(String cursor, int limit) {
+        TarefaPageDTO<TarefaResponseDTO> quentes = tarefaService.getTasksPage(cursor, limit);
+
+        TarefaCursor posicao = cursor == null || cursor.isBlank() ? null : TarefaCursor.decode(cursor);
+        Limit consulta = Limit.of(limit + 1);
+        List<TarefaResponseDTO> arquivadas = posicao == null
+                ? arquivoRepository.findFirstPage(consulta)
+                : arquivoRepository.findPageAfter(posicao.getDataCriacao(), posicao.getId(), consulta);
+
+        List<TarefaResponseDTO> todas = Stream.concat(quentes.getItems().stream(), arquivadas.stream())
+                .sorted(RECENTES)
+                .toList();
+        boolean hasNext = quentes.hasNext() || todas.size() > limit;
+        List<TarefaResponseDTO> pagina = todas.size() > limit ? todas.subList(0, limit) : todas;
+
+        return TarefaPageDTO.<TarefaResponseDTO>builder()
+                .items(pagina)
+                .next(hasNext ? TarefaCursor.of(pagina.get(pagina.size() - 1)).encode() : null)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<TarefaResponseDTO> getTasksByStatus(Tarefa.StatusTarefa status) {
+        List<TarefaResponseDTO> quentes = tarefaService.getTasksByStatus(status);
+        if (status == Tarefa.StatusTarefa.PENDENTE) {
+            // Só tarefas finalizadas são arquivadas
+            return quentes;
+        }
+        return Stream.concat(quentes.stream(), arquivoRepository.findResponsesByStatus(status).stream()).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<TarefaResponseDTO> getTasksByTitle(String titulo) {
+        List<TarefaResponseDTO> quentes = tarefaService.getTasksByTitle(titulo);
+        if (titulo == null || titulo.isBlank()) {
+            return quentes;
+        }
+        return Stream.concat(quentes.stream(), arquivoRepository.findResponsesByTituloContaining(titulo.trim()).stream())
+                .toList();
+    }
+}
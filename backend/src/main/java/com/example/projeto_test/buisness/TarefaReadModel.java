@@ -0,0 +1,178 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaCursor;
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.readmodel.TarefaColumns;
+import com.example.projeto_test.infrastructure.replica.ReplicaRoutingContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Modelo de leitura com todas as tarefas da tabela ativa em {@link TarefaColumns},
+ * fora do heap. Carregado do banco na inicialização e mantido pelos eventos de
+ * escrita do {@link TarefaService}; enquanto não está pronto, as listagens vão
+ * ao banco. Opcional ({@code tarefas.read-model.enabled}), para implantações com
+ * muitas leituras em que milhões de DTOs no heap alongam as pausas de GC.
+ */
+@Slf4j
+@Component
+public class TarefaReadModel {
+
+    private final TarefaRepository tarefaRepository;
+    private final boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TarefaColumns colunas = new TarefaColumns();
+
+    // IDs alterados por eventos enquanto a carga inicial roda; a carga não os sobrescreve
+    private Set<Long> alteradosDuranteCarga = new HashSet<>();
+    // Eventos podem chegar depois do @PreDestroy, com a memória já liberada
+    private boolean fechado;
+    private volatile boolean ready;
+
+    public TarefaReadModel(TarefaRepository tarefaRepository,
+                           @Value("${tarefas.read-model.enabled:false}") boolean enabled) {
+        this.tarefaRepository = tarefaRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long inicio = System.currentTimeMillis();
+        try (Stream<TarefaResponseDTO> linhas = ReplicaRoutingContext.onPrimary(tarefaRepository::streamAllResponses)) {
+            for (TarefaResponseDTO linha : (Iterable<TarefaResponseDTO>) linhas::iterator) {
+                lock.writeLock().lock();
+                try {
+                    if (fechado) {
+                        return;
+                    }
+                    if (!alteradosDuranteCarga.contains(linha.getId())) {
+                        colunas.put(linha);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+
+        int total;
+        long bytes;
+        lock.writeLock().lock();
+        try {
+            alteradosDuranteCarga = null;
+            ready = true;
+            total = colunas.size();
+            bytes = colunas.reservedBytes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Off-heap read model built - {} tasks, {} KB reserved in {} ms",
+                total, bytes / 1024, System.currentTimeMillis() - inicio);
+    }
+
+    @Order(TarefaETags.ORDEM_LEITURAS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTarefaChanged(TarefaChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (fechado) {
+                return;
+            }
+            if (alteradosDuranteCarga != null) {
+                alteradosDuranteCarga.add(event.getId());
+            }
+            if (event.getType() == TarefaChangedEvent.Type.DELETED) {
+                colunas.remove(event.getId());
+            } else {
+                colunas.put(event.getTarefa());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Order(TarefaETags.ORDEM_LEITURAS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTarefasArquivadas(TarefasArquivadasEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (fechado) {
+                return;
+            }
+            if (alteradosDuranteCarga != null) {
+                alteradosDuranteCarga.addAll(event.getIds());
+            }
+            event.getIds().forEach(colunas::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Mesma ordem e cursor de {@code TarefaRepository.findPageAfter}. */
+    public List<TarefaResponseDTO> page(TarefaCursor posicao, int quantidade) {
+        lock.readLock().lock();
+        try {
+            return posicao == null
+                    ? colunas.page(null, null, quantidade)
+                    : colunas.page(posicao.getDataCriacao(), posicao.getId(), quantidade);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<TarefaResponseDTO> byStatus(Tarefa.StatusTarefa status) {
+        lock.readLock().lock();
+        try {
+            return colunas.byStatus(status);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            fechado = true;
+            colunas.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -1,16 +1,34 @@
 package com.example.projeto_test.buisness;
 
+import com.example.projeto_test.dto.StatisticsDTO;
+import com.example.projeto_test.dto.TarefaCursor;
 import com.example.projeto_test.dto.TarefaDTO;
+import com.example.projeto_test.dto.TarefaFields;
+import com.example.projeto_test.dto.TarefaPageDTO;
 import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.exception.BusinessRuleException;
+import com.example.projeto_test.exception.DataConflictException;
 import com.example.projeto_test.exception.TarefaNotFoundException;
 import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.TarefaTombstone;
 import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaTombstoneRepository;
+import com.example.projeto_test.infrastructure.metrics.TarefaMetrics.Operacao;
+import com.example.projeto_test.infrastructure.metrics.TarefaTimed;
+import jakarta.persistence.Tuple;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -18,54 +36,191 @@ import java.util.stream.Collectors;
 @Transactional
 public class TarefaService {
     
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final String TAREFAS_CACHE = "tarefas";
+    
     private final TarefaRepository tarefaRepository;
+    private final TarefaTombstoneRepository tombstoneRepository;
+    private final TarefaVersionAllocator versionAllocator;
+    private final TarefaStatisticsService tarefaStatisticsService;
+    private final TituloTrigramIndex tituloTrigramIndex;
+    private final TarefaReadModel tarefaReadModel;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public TarefaService(TarefaRepository tarefaRepository) {
+    public TarefaService(TarefaRepository tarefaRepository,
+                         TarefaTombstoneRepository tombstoneRepository,
+                         TarefaVersionAllocator versionAllocator,
+                         TarefaStatisticsService tarefaStatisticsService,
+                         TituloTrigramIndex tituloTrigramIndex,
+                         TarefaReadModel tarefaReadModel,
+                         ApplicationEventPublisher eventPublisher) {
         this.tarefaRepository = tarefaRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.versionAllocator = versionAllocator;
+        this.tarefaStatisticsService = tarefaStatisticsService;
+        this.tituloTrigramIndex = tituloTrigramIndex;
+        this.tarefaReadModel = tarefaReadModel;
+        this.eventPublisher = eventPublisher;
     }
 
+    @TarefaTimed(Operacao.CREATE)
     public TarefaResponseDTO createTask(TarefaDTO tarefaDTO) {
         log.info("Creating task: {}", tarefaDTO.getTitulo());
         
+        Tarefa tarefaSalva = tarefaRepository.save(toNewEntity(tarefaDTO));
+        log.info("Task created successfully - ID: {}", tarefaSalva.getId());
+        
+        TarefaResponseDTO resposta = TarefaResponseDTO.fromEntity(tarefaSalva);
+        eventPublisher.publishEvent(TarefaChangedEvent.created(resposta));
+        return resposta;
+    }
+    
+    /**
+     * Cria um lote de tarefas em uma única transação. Os INSERTs são agrupados
+     * pelo Hibernate (hibernate.jdbc.batch_size) e enviados no flush.
+     */
+    @TarefaTimed(Operacao.CREATE_BATCH)
+    public List<TarefaResponseDTO> createTasks(List<TarefaDTO> tarefasDTO) {
+        log.info("Creating batch of {} tasks", tarefasDTO.size());
+        
+        List<Tarefa> tarefas = tarefasDTO.stream()
+                .map(this::toNewEntity)
+                .collect(Collectors.toList());
+        
+        List<Tarefa> tarefasSalvas = tarefaRepository.saveAll(tarefas);
+        tarefaRepository.flush();
+        log.info("Batch of {} tasks created successfully", tarefasSalvas.size());
+        
+        List<TarefaResponseDTO> respostas = tarefasSalvas.stream()
+                .map(TarefaResponseDTO::fromEntity)
+                .collect(Collectors.toList());
+        respostas.forEach(resposta -> eventPublisher.publishEvent(TarefaChangedEvent.created(resposta)));
+        return respostas;
+    }
+    
+    private Tarefa toNewEntity(TarefaDTO tarefaDTO) {
         Tarefa tarefa = tarefaDTO.toEntity();
         
         if (tarefa.getStatus() == null) {
             tarefa.setStatus(Tarefa.StatusTarefa.PENDENTE);
             log.debug("Default PENDING status set for task: {}", tarefa.getTitulo());
         }
+        tarefa.setVersaoAlteracao(versionAllocator.allocate());
         
-        Tarefa tarefaSalva = tarefaRepository.save(tarefa);
-        log.info("Task created successfully - ID: {}", tarefaSalva.getId());
-        
-        return TarefaResponseDTO.fromEntity(tarefaSalva);
+        return tarefa;
     }
     
     
     @Transactional(readOnly = true)
+    @TarefaTimed(Operacao.LIST)
     public List<TarefaResponseDTO> getAllTasks() {
         log.info("Listing all tasks");
-        List<Tarefa> tarefas = tarefaRepository.findAllByOrderByDataCriacaoDesc();
+        List<TarefaResponseDTO> tarefas = tarefaRepository.findAllResponsesOrderByDataCriacaoDesc();
         log.debug("Found {} tasks", tarefas.size());
         
-        return tarefas.stream()
-                .map(TarefaResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+        return tarefas;
+    }
+    
+    @Transactional(readOnly = true)
+    @TarefaTimed(Operacao.LIST)
+    public TarefaPageDTO<TarefaResponseDTO> getTasksPage(String cursor, int limit) {
+        validateLimit(limit);
+        
+        log.info("Listing tasks page - limit: {}, cursor: {}", limit, cursor);
+        
+        // Busca um registro a mais para saber se existe próxima página sem precisar de COUNT
+        Limit consulta = Limit.of(limit + 1);
+        TarefaCursor posicao = cursor == null || cursor.isBlank() ? null : TarefaCursor.decode(cursor);
+        List<TarefaResponseDTO> tarefas;
+        if (tarefaReadModel.isReady()) {
+            tarefas = tarefaReadModel.page(posicao, limit + 1);
+        } else if (posicao == null) {
+            tarefas = tarefaRepository.findFirstPage(consulta);
+        } else {
+            tarefas = tarefaRepository.findPageAfter(posicao.getDataCriacao(), posicao.getId(), consulta);
+        }
+        
+        TarefaPageDTO<TarefaResponseDTO> pagina = pageOf(tarefas, limit);
+        log.debug("Found {} tasks - has next page: {}", pagina.getItems().size(), pagina.hasNext());
+        return pagina;
+    }
+    
+    /** {@code tarefas} traz um registro além do limite quando existe próxima página. */
+    private static TarefaPageDTO<TarefaResponseDTO> pageOf(List<TarefaResponseDTO> tarefas, int limit) {
+        boolean hasNext = tarefas.size() > limit;
+        List<TarefaResponseDTO> pagina = hasNext ? tarefas.subList(0, limit) : tarefas;
+        return TarefaPageDTO.<TarefaResponseDTO>builder()
+                .items(pagina)
+                .next(hasNext ? TarefaCursor.of(pagina.get(pagina.size() - 1)).encode() : null)
+                .build();
     }
     
+    /**
+     * Mesma paginação de {@link #getTasksPage(String, int)}, lendo do banco só as
+     * colunas pedidas (mais id e dataCriacao, usados no cursor).
+     */
     @Transactional(readOnly = true)
+    @TarefaTimed(Operacao.LIST)
+    public TarefaPageDTO<Map<String, Object>> getTasksPage(String cursor, int limit, TarefaFields fields) {
+        validateLimit(limit);
+        log.info("Listing tasks page - limit: {}, cursor: {}, fields: {}", limit, cursor, fields.getCampos());
+        
+        TarefaCursor posicao = cursor == null || cursor.isBlank() ? null : TarefaCursor.decode(cursor);
+        if (tarefaReadModel.isReady()) {
+            // O modelo em memória já tem todas as colunas; a projeção é só o recorte
+            return pageOf(tarefaReadModel.page(posicao, limit + 1), limit).map(fields::select);
+        }
+        List<Tuple> linhas = tarefaRepository.findFieldsPage(
+                fields.getCampos(),
+                posicao != null ? posicao.getDataCriacao() : null,
+                posicao != null ? posicao.getId() : null,
+                limit + 1);
+        
+        boolean hasNext = linhas.size() > limit;
+        List<Tuple> pagina = hasNext ? linhas.subList(0, limit) : linhas;
+        String next = null;
+        if (hasNext) {
+            Tuple ultima = pagina.get(pagina.size() - 1);
+            next = new TarefaCursor(ultima.get("dataCriacao", LocalDateTime.class), ultima.get("id", Long.class)).encode();
+        }
+        
+        return TarefaPageDTO.<Map<String, Object>>builder()
+                .items(toMaps(pagina, fields))
+                .next(next)
+                .build();
+    }
+    
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BusinessRuleException(
+                "LIMIT_INVALID",
+                String.valueOf(limit),
+                String.format("Page limit must be between 1 and %d", MAX_PAGE_SIZE)
+            );
+        }
+    }
+    
+    // Lido de uma réplica atrasada, o valor antigo ficaria no cache até o TTL
+    // mesmo depois de o TarefaCacheSynchronizer aplicar a escrita
+    @Cacheable(cacheNames = TAREFAS_CACHE, key = "#id",
+            unless = "T(com.example.projeto_test.infrastructure.replica.ReplicaRoutingContext).isReadFromReplica()")
+    @Transactional(readOnly = true)
+    @TarefaTimed(Operacao.GET)
     public TarefaResponseDTO getTaskById(Long id) {
         log.info("Searching for task with ID: {}", id);
         
-        Tarefa tarefa = tarefaRepository.findById(id)
+        TarefaResponseDTO tarefa = tarefaRepository.findResponseById(id)
                 .orElseThrow(() -> {
                     log.warn("Task not found with ID: {}", id);
                     return new TarefaNotFoundException(id);
                 });
         
         log.debug("Task found: {}", tarefa.getTitulo());
-        return TarefaResponseDTO.fromEntity(tarefa);
+        return tarefa;
     }
     
+    @TarefaTimed(Operacao.UPDATE)
     public TarefaResponseDTO updateTask(Long id, TarefaDTO tarefaDTO) {
         log.info("Updating task with ID: {}", id);
         
@@ -75,6 +230,7 @@ public class TarefaService {
                     return new TarefaNotFoundException(id);
                 });
         
+        Tarefa.StatusTarefa statusAnterior = tarefaExistente.getStatus();
 
         if (tarefaDTO.getTitulo() != null && !tarefaDTO.getTitulo().trim().isEmpty()) {
             tarefaExistente.setTitulo(tarefaDTO.getTitulo().trim());
@@ -91,37 +247,132 @@ public class TarefaService {
             log.debug("Status updated to: {}", tarefaDTO.getStatus());
         }
         
+        tarefaExistente.setVersaoAlteracao(versionAllocator.allocate());
         Tarefa tarefaSalva = tarefaRepository.save(tarefaExistente);
+        // O @PreUpdate só define dataAtualizacao no flush; sem ele, o evento (cache,
+        // ETag, feed SSE, modelo de leitura) e a resposta levariam a data anterior
+        tarefaRepository.flush();
         log.info("Task updated successfully - ID: {}", tarefaSalva.getId());
         
-        return TarefaResponseDTO.fromEntity(tarefaSalva);
+        TarefaResponseDTO resposta = TarefaResponseDTO.fromEntity(tarefaSalva);
+        eventPublisher.publishEvent(TarefaChangedEvent.updated(resposta, statusAnterior));
+        return resposta;
+    }
+    
+    @TarefaTimed(Operacao.COMPLETE)
+    public TarefaResponseDTO completeTask(Long id) {
+        return transitionFromPending(id, Tarefa.StatusTarefa.CONCLUIDA);
+    }
+    
+    @TarefaTimed(Operacao.CANCEL)
+    public TarefaResponseDTO cancelTask(Long id) {
+        return transitionFromPending(id, Tarefa.StatusTarefa.CANCELADA);
+    }
+    
+    private TarefaResponseDTO transitionFromPending(Long id, Tarefa.StatusTarefa novoStatus) {
+        log.info("Changing status of task {} to {}", id, novoStatus);
+        
+        int alteradas = tarefaRepository.updateStatusIfCurrent(
+                id, Tarefa.StatusTarefa.PENDENTE, novoStatus, LocalDateTime.now(), versionAllocator.allocate());
+        
+        Tarefa tarefa = tarefaRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("Attempt to change status of non-existent task - ID: {}", id);
+                    return new TarefaNotFoundException(id);
+                });
+        
+        if (alteradas == 0) {
+            throw rejectedTransition(tarefa, novoStatus);
+        }
+        
+        log.info("Task {} status changed to {}", id, novoStatus);
+        TarefaResponseDTO resposta = TarefaResponseDTO.fromEntity(tarefa);
+        eventPublisher.publishEvent(TarefaChangedEvent.updated(resposta, Tarefa.StatusTarefa.PENDENTE));
+        return resposta;
     }
     
+    private RuntimeException rejectedTransition(Tarefa tarefa, Tarefa.StatusTarefa novoStatus) {
+        Tarefa.StatusTarefa atual = tarefa.getStatus();
+        
+        if (novoStatus == Tarefa.StatusTarefa.CONCLUIDA && atual == Tarefa.StatusTarefa.CONCLUIDA) {
+            return new BusinessRuleException(
+                "ALREADY_COMPLETED",
+                atual.name(),
+                String.format("Task '%s' is already completed", tarefa.getTitulo())
+            );
+        }
+        if (novoStatus == Tarefa.StatusTarefa.CONCLUIDA && atual == Tarefa.StatusTarefa.CANCELADA) {
+            return new BusinessRuleException(
+                "CANNOT_COMPLETE_CANCELLED",
+                atual.name(),
+                String.format("Cannot complete task '%s' because it was cancelled", tarefa.getTitulo())
+            );
+        }
+        if (novoStatus == Tarefa.StatusTarefa.CANCELADA && atual == Tarefa.StatusTarefa.CANCELADA) {
+            return new BusinessRuleException(
+                "ALREADY_CANCELLED",
+                atual.name(),
+                String.format("Task '%s' is already cancelled", tarefa.getTitulo())
+            );
+        }
+        if (novoStatus == Tarefa.StatusTarefa.CANCELADA && atual == Tarefa.StatusTarefa.CONCLUIDA) {
+            return new BusinessRuleException(
+                "CANNOT_CANCEL_COMPLETED",
+                atual.name(),
+                String.format("Cannot cancel task '%s' because it is already completed", tarefa.getTitulo())
+            );
+        }
+        
+        // A linha voltou a PENDENTE entre o UPDATE e a leitura (alteração concorrente)
+        return new DataConflictException(
+            "status",
+            atual.name(),
+            String.format("Status of task '%s' changed concurrently, please retry", tarefa.getTitulo())
+        );
+    }
+    
+    @TarefaTimed(Operacao.DELETE)
     public void deleteTask(Long id) {
         log.info("Deleting task with ID: {}", id);
         
-        if (!tarefaRepository.existsById(id)) {
-            log.warn("Attempt to delete non-existent task - ID: {}", id);
-            throw new TarefaNotFoundException(id);
-        }
+        Tarefa tarefa = tarefaRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("Attempt to delete non-existent task - ID: {}", id);
+                    return new TarefaNotFoundException(id);
+                });
         
-        tarefaRepository.deleteById(id);
+        tarefaRepository.delete(tarefa);
+        tombstoneRepository.save(TarefaTombstone.builder()
+                .tarefaId(id)
+                .versaoAlteracao(versionAllocator.allocate())
+                .dataRemocao(LocalDateTime.now())
+                .build());
         log.info("Task deleted successfully - ID: {}", id);
+        
+        eventPublisher.publishEvent(TarefaChangedEvent.deleted(id, tarefa.getStatus()));
+    }
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public StatisticsDTO getTaskStatistics() {
+        log.info("Fetching task statistics");
+        return tarefaStatisticsService.getStatistics();
     }
     
     @Transactional(readOnly = true)
+    @TarefaTimed(Operacao.SEARCH_STATUS)
     public List<TarefaResponseDTO> getTasksByStatus(Tarefa.StatusTarefa status) {
         log.info("Searching for tasks with status: {}", status);
         
-        List<Tarefa> tarefas = tarefaRepository.findByStatus(status);
+        List<TarefaResponseDTO> tarefas = tarefaReadModel.isReady()
+                ? tarefaReadModel.byStatus(status)
+                : tarefaRepository.findResponsesByStatus(status);
         log.debug("Found {} tasks with status {}", tarefas.size(), status);
         
-        return tarefas.stream()
-                .map(TarefaResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+        return tarefas;
     }
     
     @Transactional(readOnly = true)
+    @TarefaTimed(Operacao.SEARCH_TITLE)
     public List<TarefaResponseDTO> getTasksByTitle(String titulo) {
         if (titulo == null || titulo.trim().isEmpty()) {
             log.warn("Search by empty/null title ignored");
@@ -131,11 +382,60 @@ public class TarefaService {
         String tituloLimpo = titulo.trim();
         log.info("Searching for tasks containing: {}", tituloLimpo);
         
-        List<Tarefa> tarefas = tarefaRepository.findByTituloContaining(tituloLimpo);
+        List<TarefaResponseDTO> tarefas;
+        if (tituloTrigramIndex.isReady()) {
+            List<Long> ids = tituloTrigramIndex.search(tituloLimpo);
+            tarefas = ids.isEmpty() ? List.of() : tarefaRepository.findResponsesByIdIn(ids);
+        } else {
+            log.debug("Title index not ready, falling back to LIKE query");
+            tarefas = tarefaRepository.findResponsesByTituloContaining(tituloLimpo);
+        }
         log.debug("Found {} tasks with title containing '{}'", tarefas.size(), tituloLimpo);
         
-        return tarefas.stream()
-                .map(TarefaResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+        return tarefas;
+    }
+    
+    @Transactional(readOnly = true)
+    @TarefaTimed(Operacao.SEARCH_STATUS)
+    public List<Map<String, Object>> getTasksByStatus(Tarefa.StatusTarefa status, TarefaFields fields) {
+        log.info("Searching for tasks with status: {} - fields: {}", status, fields.getCampos());
+        if (tarefaReadModel.isReady()) {
+            return tarefaReadModel.byStatus(status).stream().map(fields::select).toList();
+        }
+        return toMaps(tarefaRepository.findFieldsByStatus(fields.getCampos(), status), fields);
+    }
+    
+    @Transactional(readOnly = true)
+    @TarefaTimed(Operacao.SEARCH_TITLE)
+    public List<Map<String, Object>> getTasksByTitle(String titulo, TarefaFields fields) {
+        if (titulo == null || titulo.trim().isEmpty()) {
+            log.warn("Search by empty/null title ignored");
+            return List.of();
+        }
+        
+        String tituloLimpo = titulo.trim();
+        log.info("Searching for tasks containing: {} - fields: {}", tituloLimpo, fields.getCampos());
+        
+        List<Tuple> linhas;
+        if (tituloTrigramIndex.isReady()) {
+            List<Long> ids = tituloTrigramIndex.search(tituloLimpo);
+            linhas = ids.isEmpty() ? List.of() : tarefaRepository.findFieldsByIdIn(fields.getCampos(), ids);
+        } else {
+            linhas = tarefaRepository.findFieldsByTituloContaining(fields.getCampos(), tituloLimpo);
+        }
+        return toMaps(linhas, fields);
+    }
+    
+    /** Só os campos pedidos, na ordem pedida; colunas extras da consulta (cursor) ficam de fora. */
+    private static List<Map<String, Object>> toMaps(List<Tuple> linhas, TarefaFields fields) {
+        List<Map<String, Object>> resultado = new ArrayList<>(linhas.size());
+        for (Tuple linha : linhas) {
+            Map<String, Object> tarefa = new LinkedHashMap<>();
+            for (String campo : fields.getCampos()) {
+                tarefa.put(campo, linha.get(campo));
+            }
+            resultado.add(tarefa);
+        }
+        return resultado;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.StatisticsDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaArquivoRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaStatusCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contadores em memória por status, mantidos pelos eventos de escrita do
+ * {@link TarefaService} e reconciliados periodicamente com um GROUP BY na
+ * tabela de tarefas e outro no arquivo.
+ */
+@Slf4j
+@Service
+public class TarefaStatisticsService {
+
+    private final TarefaRepository tarefaRepository;
+    private final TarefaArquivoRepository arquivoRepository;
+    private final AtomicLongArray contadores = new AtomicLongArray(Tarefa.StatusTarefa.values().length);
+
+    public TarefaStatisticsService(TarefaRepository tarefaRepository, TarefaArquivoRepository arquivoRepository) {
+        this.tarefaRepository = tarefaRepository;
+        this.arquivoRepository = arquivoRepository;
+    }
+
+    public StatisticsDTO getStatistics() {
+        long pendentes = contadores.get(Tarefa.StatusTarefa.PENDENTE.ordinal());
+        long concluidas = contadores.get(Tarefa.StatusTarefa.CONCLUIDA.ordinal());
+        long canceladas = contadores.get(Tarefa.StatusTarefa.CANCELADA.ordinal());
+
+        return StatisticsDTO.builder()
+                .total(pendentes + concluidas + canceladas)
+                .pendentes(pendentes)
+                .concluidas(concluidas)
+                .canceladas(canceladas)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTarefaChanged(TarefaChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> contadores.incrementAndGet(event.getTarefa().getStatus().ordinal());
+            case UPDATED -> {
+                Tarefa.StatusTarefa statusAtual = event.getTarefa().getStatus();
+                if (event.getStatusAnterior() != statusAtual) {
+                    contadores.decrementAndGet(event.getStatusAnterior().ordinal());
+                    contadores.incrementAndGet(statusAtual.ordinal());
+                }
+            }
+            case DELETED -> contadores.decrementAndGet(event.getStatusAnterior().ordinal());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Escritas que fazem commit durante a consulta podem deixar um desvio
+     * pontual nos contadores; a próxima reconciliação o corrige.
+     */
+    @Scheduled(
+            initialDelayString = "${tarefas.statistics.reconcile-interval-ms:300000}",
+            fixedDelayString = "${tarefas.statistics.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        long[] totais = new long[contadores.length()];
+        for (TarefaStatusCount contagem : tarefaRepository.countGroupByStatus()) {
+            totais[contagem.getStatus().ordinal()] += contagem.getTotal();
+        }
+        // Tarefas arquivadas continuam existindo e contando
+        for (TarefaStatusCount contagem : arquivoRepository.countGroupByStatus()) {
+            totais[contagem.getStatus().ordinal()] += contagem.getTotal();
+        }
+
+        for (int i = 0; i < totais.length; i++) {
+            long anterior = contadores.getAndSet(i, totais[i]);
+            if (anterior != totais[i]) {
+                log.debug("Statistics counter for {} reconciled: {} -> {}",
+                        Tarefa.StatusTarefa.values()[i], anterior, totais[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaChangesDTO;
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.dto.TarefaSyncToken;
+import com.example.projeto_test.exception.BusinessRuleException;
+import com.example.projeto_test.infrastructure.entitys.TarefaTombstone;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaTombstoneRepository;
+import com.example.projeto_test.infrastructure.metrics.TarefaMetrics.Operacao;
+import com.example.projeto_test.infrastructure.metrics.TarefaTimed;
+import com.example.projeto_test.infrastructure.replica.ReplicaWatermarkReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sincronização delta: devolve o que mudou depois de uma versão, lendo só pelo
+ * índice de {@code versao_alteracao} das tarefas e dos tombstones. O custo
+ * acompanha o volume de alterações, não o tamanho da tabela.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TarefaSyncService {
+
+    private final TarefaRepository tarefaRepository;
+    private final TarefaTombstoneRepository tombstoneRepository;
+    private final TarefaVersionAllocator versionAllocator;
+    private final ReplicaWatermarkReader replicaWatermark;
+
+    public TarefaSyncService(TarefaRepository tarefaRepository,
+                             TarefaTombstoneRepository tombstoneRepository,
+                             TarefaVersionAllocator versionAllocator,
+                             ObjectProvider<ReplicaWatermarkReader> replicaWatermark) {
+        this.tarefaRepository = tarefaRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.versionAllocator = versionAllocator;
+        this.replicaWatermark = replicaWatermark.getIfAvailable();
+    }
+
+    @TarefaTimed(Operacao.SYNC)
+    public TarefaChangesDTO getChanges(String since, int limit) {
+        TarefaSyncToken token = since == null || since.isBlank() ? null : TarefaSyncToken.decode(since.trim());
+        if (limit < 1 || limit > TarefaService.MAX_PAGE_SIZE) {
+            throw new BusinessRuleException(
+                "LIMIT_INVALID",
+                String.valueOf(limit),
+                String.format("Page limit must be between 1 and %d", TarefaService.MAX_PAGE_SIZE)
+            );
+        }
+
+        // Só até a versão segura: escritas ainda em voo abaixo dela ficariam para trás
+        long ate = versionAllocator.safeVersion();
+        // Lida de uma réplica, só até o que ela já recebeu: o cliente não avança além
+        // de versões que a consulta ainda não enxerga
+        long visivel = replicaWatermark == null ? ate : replicaWatermark.visibleVersion(ate);
+        if (token != null && !canResume(token, ate)) {
+            // Outra época (restart), versão expurgada ou que nunca foi emitida: continuar
+            // dali perderia exclusões, então o cliente recomeça do zero
+            log.info("Sync token {} cannot be resumed - epoch: {}, resume floor: {}, up to: {}",
+                    since, versionAllocator.getEpoca(), versionAllocator.minimumResumeVersion(), ate);
+            return changesBetween(0, visivel, limit, true);
+        }
+        return changesBetween(token == null ? 0 : token.getVersao(), visivel, limit, false);
+    }
+
+    private boolean canResume(TarefaSyncToken token, long ate) {
+        return token.getEpoca() == versionAllocator.getEpoca()
+                && token.getVersao() >= versionAllocator.minimumResumeVersion()
+                && token.getVersao() <= ate;
+    }
+
+    private TarefaChangesDTO changesBetween(long desde, long ate, int limit, boolean reset) {
+        log.info("Fetching changes - since: {}, up to: {}, limit: {}, reset: {}", desde, ate, limit, reset);
+        if (desde >= ate) {
+            return TarefaChangesDTO.builder()
+                    .upserts(List.of())
+                    .deletions(List.of())
+                    .version(token(desde))
+                    .hasMore(false)
+                    .reset(reset)
+                    .build();
+        }
+
+        Limit consulta = Limit.of(limit + 1);
+        TarefaChangesDTO pagina = merge(
+                tarefaRepository.findChangedBetween(desde, ate, consulta),
+                tombstoneRepository.findRemovedBetween(desde, ate, consulta),
+                limit,
+                ate);
+        if (desde > 0 && desde < versionAllocator.minimumResumeVersion()) {
+            // O expurgo avançou o piso durante a leitura: tombstones desta faixa podem ter sumido
+            return changesBetween(0, ate, limit, true);
+        }
+        pagina.setReset(reset);
+        return pagina;
+    }
+
+    private String token(long versao) {
+        return new TarefaSyncToken(versionAllocator.getEpoca(), versao).encode();
+    }
+
+    /**
+     * Intercala as duas listas (ambas ordenadas por versão) até {@code limit}
+     * itens. As versões são únicas entre tarefas e tombstones, então a última
+     * versão incluída é um ponto de retomada exato.
+     */
+    private TarefaChangesDTO merge(List<TarefaResponseDTO> alteradas, List<TarefaTombstone> removidas,
+                                   int limit, long ate) {
+        List<TarefaResponseDTO> upserts = new ArrayList<>();
+        List<Long> deletions = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        long ultimaIncluida = 0;
+
+        while (upserts.size() + deletions.size() < limit && (i < alteradas.size() || j < removidas.size())) {
+            boolean proximaEhAlteracao = j >= removidas.size()
+                    || (i < alteradas.size()
+                        && alteradas.get(i).getVersaoAlteracao() < removidas.get(j).getVersaoAlteracao());
+            if (proximaEhAlteracao) {
+                TarefaResponseDTO tarefa = alteradas.get(i++);
+                upserts.add(tarefa);
+                ultimaIncluida = tarefa.getVersaoAlteracao();
+            } else {
+                TarefaTombstone tombstone = removidas.get(j++);
+                deletions.add(tombstone.getTarefaId());
+                ultimaIncluida = tombstone.getVersaoAlteracao();
+            }
+        }
+
+        boolean hasMore = i < alteradas.size() || j < removidas.size();
+        log.debug("Changes page - {} upserts, {} deletions, has more: {}", upserts.size(), deletions.size(), hasMore);
+
+        return TarefaChangesDTO.builder()
+                .upserts(upserts)
+                .deletions(deletions)
+                .version(token(hasMore ? ultimaIncluida : ate))
+                .hasMore(hasMore)
+                .build();
+    }
+}
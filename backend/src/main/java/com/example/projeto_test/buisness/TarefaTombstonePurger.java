@@ -0,0 +1,54 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Expurga tombstones com mais de {@code tarefas.sync.tombstone-retention}. Antes
+ * de remover, sobe o piso de retomada do {@link TarefaVersionAllocator} até a
+ * maior versão expurgada: um cliente parado abaixo dele recebe {@code reset} na
+ * sincronização em vez de deixar de ver essas exclusões.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tarefas.sync.tombstone-purge.enabled", havingValue = "true", matchIfMissing = true)
+public class TarefaTombstonePurger {
+
+    private final TarefaTombstoneRepository tombstoneRepository;
+    private final TarefaVersionAllocator versionAllocator;
+    private final Duration retencao;
+
+    public TarefaTombstonePurger(TarefaTombstoneRepository tombstoneRepository,
+                                 TarefaVersionAllocator versionAllocator,
+                                 @Value("${tarefas.sync.tombstone-retention:30d}") Duration retencao) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.versionAllocator = versionAllocator;
+        this.retencao = retencao;
+    }
+
+    @Scheduled(
+            initialDelayString = "${tarefas.sync.tombstone-purge.interval-ms:3600000}",
+            fixedDelayString = "${tarefas.sync.tombstone-purge.interval-ms:3600000}")
+    @Transactional
+    public void purge() {
+        long versao = tombstoneRepository.findMaxVersaoRemovedBefore(LocalDateTime.now().minus(retencao));
+        if (versao == 0) {
+            return;
+        }
+
+        // Piso antes da remoção: uma sincronização concorrente nunca lê a faixa já
+        // sem tombstones sem também ver o piso novo
+        versionAllocator.advanceResumeFloor(versao);
+        int removidos = tombstoneRepository.deleteUpToVersion(versao);
+        log.info("Purged {} tombstones older than {} - sync resume floor is now version {}",
+                removidos, retencao, versao);
+    }
+}
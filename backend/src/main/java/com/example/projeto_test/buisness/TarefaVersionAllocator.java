@@ -0,0 +1,111 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaTombstoneRepository;
+import com.example.projeto_test.infrastructure.replica.ReplicaWatermark;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gera as versões de alteração das tarefas e calcula até onde a sincronização
+ * delta pode ler com segurança.
+ * <p>
+ * A ordem de commit não é a ordem das versões: a transação com a versão 5 pode
+ * confirmar depois da que recebeu a 6. Cada versão fica registrada como "em voo"
+ * até sua transação terminar, e {@link #safeVersion()} devolve a maior versão
+ * abaixo da qual nada está pendente. Um cliente que sincronizou até ela nunca
+ * perde uma escrita que confirmou atrasada.
+ * <p>
+ * A numeração só vale dentro de uma {@linkplain #getEpoca() época}, que muda a
+ * cada inicialização (com o banco em memória as versões recomeçam do zero), e
+ * só a partir do {@linkplain #minimumResumeVersion() piso} deixado pelo expurgo
+ * de tombstones.
+ */
+@Slf4j
+@Component
+public class TarefaVersionAllocator implements ReplicaWatermark {
+
+    private final TarefaRepository tarefaRepository;
+    private final TarefaTombstoneRepository tombstoneRepository;
+    private final long epoca = System.currentTimeMillis();
+    private final AtomicLong ultimaVersao = new AtomicLong();
+    private final AtomicLong versaoMinima = new AtomicLong();
+    private final NavigableSet<Long> emVoo = new ConcurrentSkipListSet<>();
+
+    public TarefaVersionAllocator(TarefaRepository tarefaRepository,
+                                  TarefaTombstoneRepository tombstoneRepository) {
+        this.tarefaRepository = tarefaRepository;
+        this.tombstoneRepository = tombstoneRepository;
+    }
+
+    @PostConstruct
+    public void load() {
+        long maxima = Math.max(tarefaRepository.findMaxVersaoAlteracao(), tombstoneRepository.findMaxVersaoAlteracao());
+        ultimaVersao.set(maxima);
+        log.info("Change version allocator starting after version {}", maxima);
+    }
+
+    /**
+     * Reserva a próxima versão para a transação corrente; ela deixa de bloquear
+     * o {@link #safeVersion()} quando a transação termina (commit ou rollback).
+     */
+    public long allocate() {
+        boolean emTransacao = TransactionSynchronizationManager.isSynchronizationActive();
+
+        long versao;
+        // Registra antes de publicar o novo valor: safeVersion() nunca vê a versão
+        // já alocada sem vê-la também como pendente
+        synchronized (emVoo) {
+            versao = ultimaVersao.get() + 1;
+            if (emTransacao) {
+                emVoo.add(versao);
+            }
+            ultimaVersao.set(versao);
+        }
+        if (!emTransacao) {
+            return versao;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                emVoo.remove(versao);
+            }
+        });
+        return versao;
+    }
+
+    public long safeVersion() {
+        long ultima = ultimaVersao.get();
+        Long pendente = emVoo.ceiling(Long.MIN_VALUE);
+        return pendente == null ? ultima : Math.min(ultima, pendente - 1);
+    }
+
+    /** Com réplicas, limita a sincronização ao que a réplica lida já recebeu. */
+    @Override
+    public long currentWatermark() {
+        return safeVersion();
+    }
+
+    public long getEpoca() {
+        return epoca;
+    }
+
+    /**
+     * Menor versão a partir da qual a sincronização ainda pode ser retomada:
+     * exclusões até ela tiveram o tombstone expurgado.
+     */
+    public long minimumResumeVersion() {
+        return versaoMinima.get();
+    }
+
+    public void advanceResumeFloor(long versao) {
+        versaoMinima.accumulateAndGet(versao, Math::max);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.projeto_test.buisness;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Publicado pelo {@link TarefaArchiver} a cada lote movido para o arquivo. Não é
+ * uma remoção: as tarefas continuam existindo e contando nas estatísticas, só
+ * saem das leituras sem {@code historico}. No feed SSE cada uma vira um evento
+ * {@code archived}.
+ */
+@Getter
+@AllArgsConstructor
+public class TarefasArquivadasEvent {
+
+    private final List<Long> ids;
+}
@@ -0,0 +1,212 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaTitulo;
+import com.example.projeto_test.infrastructure.replica.ReplicaRoutingContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido de trigramas sobre {@code Tarefa.titulo}, mantido em memória.
+ * Resolve os IDs candidatos de uma busca por substring sem varrer a tabela; a
+ * busca no banco ({@code LIKE %termo%}) só é usada enquanto o índice não está pronto.
+ */
+@Slf4j
+@Component
+public class TituloTrigramIndex {
+
+    static final int GRAM_SIZE = 3;
+
+    private final TarefaRepository tarefaRepository;
+    private final boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, String> titulos = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    // IDs alterados por eventos enquanto a carga inicial roda; a carga não os sobrescreve
+    private Set<Long> alteradosDuranteCarga = new HashSet<>();
+    private volatile boolean ready;
+
+    public TituloTrigramIndex(TarefaRepository tarefaRepository,
+                              @Value("${tarefas.search.trigram.enabled:true}") boolean enabled) {
+        this.tarefaRepository = tarefaRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            log.info("Title trigram index disabled");
+            return;
+        }
+
+        long inicio = System.currentTimeMillis();
+        long total = 0;
+        try (Stream<TarefaTitulo> linhas = ReplicaRoutingContext.onPrimary(tarefaRepository::streamAllTitulos)) {
+            for (TarefaTitulo linha : (Iterable<TarefaTitulo>) linhas::iterator) {
+                lock.writeLock().lock();
+                try {
+                    if (!alteradosDuranteCarga.contains(linha.getId())) {
+                        put(linha.getId(), linha.getTitulo());
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                total++;
+            }
+        }
+
+        int totalGrams;
+        lock.writeLock().lock();
+        try {
+            alteradosDuranteCarga = null;
+            ready = true;
+            totalGrams = postings.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Title trigram index built - {} tasks, {} grams in {} ms",
+                total, totalGrams, System.currentTimeMillis() - inicio);
+    }
+
+    @Order(TarefaETags.ORDEM_LEITURAS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTarefaChanged(TarefaChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (alteradosDuranteCarga != null) {
+                alteradosDuranteCarga.add(event.getId());
+            }
+            remove(event.getId());
+            if (event.getType() != TarefaChangedEvent.Type.DELETED) {
+                put(event.getId(), event.getTarefa().getTitulo());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Tarefas arquivadas saem do índice; a busca com histórico consulta o arquivo no banco. */
+    @Order(TarefaETags.ORDEM_LEITURAS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTarefasArquivadas(TarefasArquivadasEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (alteradosDuranteCarga != null) {
+                alteradosDuranteCarga.addAll(event.getIds());
+            }
+            event.getIds().forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retorna os IDs cujo título contém {@code termo} (sensível a maiúsculas,
+     * como o LIKE do H2). Termos menores que um trigrama são verificados
+     * diretamente contra os títulos em memória.
+     */
+    public List<Long> search(String termo) {
+        String normalizado = termo.toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            if (normalizado.length() < GRAM_SIZE) {
+                return matching(titulos.keySet(), termo);
+            }
+
+            List<Set<Long>> listas = new ArrayList<>();
+            for (String gram : grams(normalizado)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return List.of();
+                }
+                listas.add(ids);
+            }
+
+            listas.sort((a, b) -> Integer.compare(a.size(), b.size()));
+            Set<Long> candidatos = new HashSet<>(listas.get(0));
+            for (int i = 1; i < listas.size() && !candidatos.isEmpty(); i++) {
+                candidatos.retainAll(listas.get(i));
+            }
+            return matching(candidatos, termo);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> matching(Set<Long> candidatos, String termo) {
+        List<Long> ids = new ArrayList<>();
+        for (Long id : candidatos) {
+            if (titulos.get(id).contains(termo)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private void put(Long id, String titulo) {
+        titulos.put(id, titulo);
+        for (String gram : grams(titulo.toLowerCase(Locale.ROOT))) {
+            postings.computeIfAbsent(gram, chave -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void remove(Long id) {
+        String anterior = titulos.remove(id);
+        if (anterior == null) {
+            return;
+        }
+        for (String gram : grams(anterior.toLowerCase(Locale.ROOT))) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> grams(String texto) {
+        if (texto.length() < GRAM_SIZE) {
+            return Collections.emptySet();
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= texto.length(); i++) {
+            grams.add(texto.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
@@ -1,5 +1,7 @@
+package com.example.projeto_test.controller;
+
+import com.example.projeto_test.buisness.TarefaService;
 import com.example.projeto_test.dto.StatisticsDTO;
-import com.example.projeto_test.service.TarefaService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,5 +24,3 @@ public class EstatiscaController {
         return ResponseEntity.ok(statistics);
     }
 }
-package com.example.projeto_test.controllerz;
-
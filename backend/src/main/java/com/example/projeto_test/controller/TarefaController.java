@@ -1,47 +1,173 @@
 package com.example.projeto_test.controller;
 
+import com.example.projeto_test.dto.TarefaBatchResultDTO;
 import com.example.projeto_test.dto.TarefaDTO;
+import com.example.projeto_test.dto.TarefaFields;
+import com.example.projeto_test.dto.TarefaPageDTO;
 import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.buisness.TarefaBatchService;
+import com.example.projeto_test.buisness.TarefaETags;
+import com.example.projeto_test.buisness.TarefaExportService;
+import com.example.projeto_test.buisness.TarefaGroupCommitWriter;
+import com.example.projeto_test.buisness.TarefaHistoricoService;
 import com.example.projeto_test.buisness.TarefaService;
+import com.example.projeto_test.infrastructure.replica.ReplicaRoutingContext;
+import com.example.projeto_test.infrastructure.web.BinaryEncodingConfig;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @RestController
 @RequestMapping("/tasks")
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = {TarefaController.NEXT_CURSOR_HEADER, HttpHeaders.RETRY_AFTER})
 public class TarefaController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TarefaService tarefaService;
+    private final TarefaExportService tarefaExportService;
+    private final TarefaBatchService tarefaBatchService;
+    private final TarefaETags tarefaETags;
+    private final TarefaHistoricoService historicoService;
+    private final TarefaGroupCommitWriter groupCommitWriter;
 
-    public TarefaController(TarefaService tarefaService) {
+    public TarefaController(TarefaService tarefaService,
+                            TarefaExportService tarefaExportService,
+                            TarefaBatchService tarefaBatchService,
+                            TarefaETags tarefaETags,
+                            TarefaHistoricoService historicoService,
+                            ObjectProvider<TarefaGroupCommitWriter> groupCommitWriter) {
         this.tarefaService = tarefaService;
+        this.tarefaExportService = tarefaExportService;
+        this.tarefaBatchService = tarefaBatchService;
+        this.tarefaETags = tarefaETags;
+        this.historicoService = historicoService;
+        this.groupCommitWriter = groupCommitWriter.getIfAvailable();
     }
 
     @PostMapping
     public ResponseEntity<TarefaResponseDTO> createTask(@Valid @RequestBody TarefaDTO tarefaDTO) {
         log.info("Creating new task: {}", tarefaDTO.getTitulo());
-        TarefaResponseDTO novaTarefa = tarefaService.createTask(tarefaDTO);
+        TarefaResponseDTO novaTarefa = groupCommitWriter != null
+                ? createThroughGroupCommit(tarefaDTO)
+                : tarefaService.createTask(tarefaDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(novaTarefa);
     }
 
+    private TarefaResponseDTO createThroughGroupCommit(TarefaDTO tarefaDTO) {
+        try {
+            return groupCommitWriter.submit(tarefaDTO).join();
+        } catch (CompletionException ex) {
+            // Writer sem resposta no prazo: mesmo 503 com Retry-After da fila cheia
+            if (ex.getCause() instanceof TimeoutException) {
+                throw new RejectedExecutionException("Timed out waiting for the group commit writer", ex.getCause());
+            }
+            // Repassa a exceção original para o GlobalExceptionHandler
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw ex;
+        }
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TarefaBatchResultDTO> createTasksBatch(InputStream body) throws IOException {
+        log.info("Importing batch of tasks");
+        TarefaBatchResultDTO resultado = tarefaBatchService.importTasks(body);
+        return ResponseEntity.ok(resultado);
+    }
+
     @GetMapping
-    public ResponseEntity<List<TarefaResponseDTO>> getAllTasks() {
-        log.info("Listing all tasks");
-        List<TarefaResponseDTO> tarefas = tarefaService.getAllTasks();
-        return ResponseEntity.ok(tarefas);
+    public ResponseEntity<List<?>> getAllTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TarefaService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean historico,
+            WebRequest request) {
+        log.info("Listing tasks - limit: {}, historico: {}", limit, historico);
+        TarefaFields campos = fields == null ? null : TarefaFields.parse(fields);
+        String etag = TarefaETags.forHistory(TarefaETags.forFields(
+                TarefaETags.forRepresentation(tarefaETags.forList(), request.getHeader(HttpHeaders.ACCEPT)), campos), historico);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        
+        TarefaPageDTO<?> pagina = listPage(cursor, limit, campos, historico);
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        // O ETag acompanha a versão do principal; uma página lida de réplica atrasada
+        // ficaria guardada no cliente sob ele, então sai sem ETag
+        if (!ReplicaRoutingContext.isReadFromReplica()) {
+            response.eTag(etag);
+        }
+        if (pagina.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, pagina.getNext());
+        }
+        return response.body(pagina.getItems());
+    }
+
+    private TarefaPageDTO<?> listPage(String cursor, int limit, TarefaFields campos, boolean historico) {
+        if (historico) {
+            TarefaPageDTO<TarefaResponseDTO> completa = historicoService.getTasksPage(cursor, limit);
+            return campos == null ? completa : completa.map(campos::select);
+        }
+        return campos == null
+                ? tarefaService.getTasksPage(cursor, limit)
+                : tarefaService.getTasksPage(cursor, limit, campos);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        log.info("Exporting all tasks");
+        StreamingResponseBody body = tarefaExportService::exportTasks;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/export", produces = BinaryEncodingConfig.APPLICATION_CBOR_SEQ_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasksCbor() {
+        log.info("Exporting all tasks as CBOR sequence");
+        StreamingResponseBody body = tarefaExportService::exportTasksCbor;
+        return ResponseEntity.ok()
+                .contentType(BinaryEncodingConfig.APPLICATION_CBOR_SEQ)
+                .body(body);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TarefaResponseDTO> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<TarefaResponseDTO> getTaskById(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean historico,
+            WebRequest request) {
         log.info("Searching for task with ID: {}", id);
-        TarefaResponseDTO tarefa = tarefaService.getTaskById(id);
-        return ResponseEntity.ok(tarefa);
+        Optional<String> etag = tarefaETags.forTask(id)
+                .map(valor -> TarefaETags.forRepresentation(valor, request.getHeader(HttpHeaders.ACCEPT)));
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        
+        TarefaResponseDTO tarefa = historico ? historicoService.getTaskById(id) : tarefaService.getTaskById(id);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (!ReplicaRoutingContext.isReadFromReplica()) {
+            etag.ifPresent(response::eTag);
+        }
+        return response.body(tarefa);
     }
 
     @PutMapping("/{id}")
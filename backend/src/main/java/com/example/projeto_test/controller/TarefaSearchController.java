@@ -1,12 +1,19 @@
 package com.example.projeto_test.controller;
 
+import com.example.projeto_test.dto.TarefaFields;
 import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.buisness.TarefaETags;
+import com.example.projeto_test.buisness.TarefaHistoricoService;
 import com.example.projeto_test.buisness.TarefaService;
 import com.example.projeto_test.exception.BusinessRuleException;
 import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.replica.ReplicaRoutingContext;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,19 +24,27 @@ import java.util.List;
 public class TarefaSearchController {
 
     private final TarefaService tarefaService;
+    private final TarefaETags tarefaETags;
+    private final TarefaHistoricoService historicoService;
 
-    public TarefaSearchController(TarefaService tarefaService) {
+    public TarefaSearchController(TarefaService tarefaService,
+                                  TarefaETags tarefaETags,
+                                  TarefaHistoricoService historicoService) {
         this.tarefaService = tarefaService;
+        this.tarefaETags = tarefaETags;
+        this.historicoService = historicoService;
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<TarefaResponseDTO>> searchByStatus(@PathVariable String status) {
+    public ResponseEntity<List<?>> searchByStatus(@PathVariable String status,
+                                                  @RequestParam(required = false) String fields,
+                                                  @RequestParam(defaultValue = "false") boolean historico,
+                                                  WebRequest request) {
         log.info("Searching for tasks with status: {}", status);
         
+        Tarefa.StatusTarefa statusEnum;
         try {
-            Tarefa.StatusTarefa statusEnum = Tarefa.StatusTarefa.valueOf(status.toUpperCase());
-            List<TarefaResponseDTO> tarefas = tarefaService.getTasksByStatus(statusEnum);
-            return ResponseEntity.ok(tarefas);
+            statusEnum = Tarefa.StatusTarefa.valueOf(status.toUpperCase());
         } catch (IllegalArgumentException ex) {
             throw new BusinessRuleException(
                 "STATUS_INVALID", 
@@ -37,10 +52,27 @@ public class TarefaSearchController {
                 String.format("Status '%s' is invalid. Accepted values: PENDENTE, CONCLUIDA, CANCELADA", status)
             );
         }
+        
+        TarefaFields campos = fields == null ? null : TarefaFields.parse(fields);
+        String etag = TarefaETags.forHistory(TarefaETags.forFields(
+                TarefaETags.forRepresentation(tarefaETags.forList(), request.getHeader(HttpHeaders.ACCEPT)), campos), historico);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        
+        List<?> tarefas = historico
+                ? project(historicoService.getTasksByStatus(statusEnum), campos)
+                : campos == null
+                        ? tarefaService.getTasksByStatus(statusEnum)
+                        : tarefaService.getTasksByStatus(statusEnum, campos);
+        return listResponse(etag, tarefas);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<TarefaResponseDTO>> searchByTitle(@RequestParam String titulo) {
+    public ResponseEntity<List<?>> searchByTitle(@RequestParam String titulo,
+                                                 @RequestParam(required = false) String fields,
+                                                 @RequestParam(defaultValue = "false") boolean historico,
+                                                 WebRequest request) {
         log.info("Searching for tasks with title containing: {}", titulo);
         
         if (titulo.trim().length() < 2) {
@@ -51,40 +83,40 @@ public class TarefaSearchController {
             );
         }
         
-        List<TarefaResponseDTO> tarefas = tarefaService.getTasksByTitle(titulo);
-        return ResponseEntity.ok(tarefas);
+        TarefaFields campos = fields == null ? null : TarefaFields.parse(fields);
+        String etag = TarefaETags.forHistory(TarefaETags.forFields(
+                TarefaETags.forRepresentation(tarefaETags.forList(), request.getHeader(HttpHeaders.ACCEPT)), campos), historico);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        
+        List<?> tarefas = historico
+                ? project(historicoService.getTasksByTitle(titulo), campos)
+                : campos == null
+                        ? tarefaService.getTasksByTitle(titulo)
+                        : tarefaService.getTasksByTitle(titulo, campos);
+        return listResponse(etag, tarefas);
+    }
+
+    // Sem ETag quando a lista veio de uma réplica (ver TarefaController#getAllTasks)
+    private static ResponseEntity<List<?>> listResponse(String etag, List<?> tarefas) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (!ReplicaRoutingContext.isReadFromReplica()) {
+            response.eTag(etag);
+        }
+        return response.body(tarefas);
+    }
+
+    // O arquivo não tem projeção por colunas; os campos são recortados em memória
+    private static List<?> project(List<TarefaResponseDTO> tarefas, TarefaFields campos) {
+        return campos == null ? tarefas : tarefas.stream().map(campos::select).toList();
     }
 
    
     @PatchMapping("/{id}/complete")
     public ResponseEntity<TarefaResponseDTO> markAsCompleted(@PathVariable Long id) {
         log.info("Marking task {} as completed", id);
-        
-        TarefaResponseDTO tarefa = tarefaService.getTaskById(id);
-        
-        if (tarefa.getStatus() == Tarefa.StatusTarefa.CONCLUIDA) {
-            throw new BusinessRuleException(
-                "ALREADY_COMPLETED",
-                tarefa.getStatus().name(),
-                String.format("Task '%s' is already completed", tarefa.getTitulo())
-            );
-        }
-        
-        if (tarefa.getStatus() == Tarefa.StatusTarefa.CANCELADA) {
-            throw new BusinessRuleException(
-                "CANNOT_COMPLETE_CANCELLED",
-                tarefa.getStatus().name(),
-                String.format("Cannot complete task '%s' because it was cancelled", tarefa.getTitulo())
-            );
-        }
-        
-        com.example.projeto_test.dto.TarefaDTO dto = com.example.projeto_test.dto.TarefaDTO.builder()
-                .titulo(tarefa.getTitulo())
-                .descricao(tarefa.getDescricao())
-                .status(Tarefa.StatusTarefa.CONCLUIDA)
-                .build();
-        
-        TarefaResponseDTO tarefaAtualizada = tarefaService.updateTask(id, dto);
+        TarefaResponseDTO tarefaAtualizada = tarefaService.completeTask(id);
         return ResponseEntity.ok(tarefaAtualizada);
     }
 
@@ -92,32 +124,7 @@ public class TarefaSearchController {
     @PatchMapping("/{id}/cancel")
     public ResponseEntity<TarefaResponseDTO> cancelTask(@PathVariable Long id) {
         log.info("Cancelling task {}", id);
-        
-        TarefaResponseDTO tarefa = tarefaService.getTaskById(id);
-        
-        if (tarefa.getStatus() == Tarefa.StatusTarefa.CANCELADA) {
-            throw new BusinessRuleException(
-                "ALREADY_CANCELLED",
-                tarefa.getStatus().name(),
-                String.format("Task '%s' is already cancelled", tarefa.getTitulo())
-            );
-        }
-        
-        if (tarefa.getStatus() == Tarefa.StatusTarefa.CONCLUIDA) {
-            throw new BusinessRuleException(
-                "CANNOT_CANCEL_COMPLETED",
-                tarefa.getStatus().name(),
-                String.format("Cannot cancel task '%s' because it is already completed", tarefa.getTitulo())
-            );
-        }
-        
-        com.example.projeto_test.dto.TarefaDTO dto = com.example.projeto_test.dto.TarefaDTO.builder()
-                .titulo(tarefa.getTitulo())
-                .descricao(tarefa.getDescricao())
-                .status(Tarefa.StatusTarefa.CANCELADA)
-                .build();
-        
-        TarefaResponseDTO tarefaAtualizada = tarefaService.updateTask(id, dto);
+        TarefaResponseDTO tarefaAtualizada = tarefaService.cancelTask(id);
         return ResponseEntity.ok(tarefaAtualizada);
     }
 }
\ No newline at end of file
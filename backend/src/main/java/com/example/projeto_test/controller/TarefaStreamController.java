@@ -0,0 +1,26 @@
+package com.example.projeto_test.controller;
+
+import com.example.projeto_test.buisness.TarefaChangeFeed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RestController
+@RequestMapping("/tasks")
+@CrossOrigin(origins = "http://localhost:3000")
+public class TarefaStreamController {
+
+    private final TarefaChangeFeed tarefaChangeFeed;
+
+    public TarefaStreamController(TarefaChangeFeed tarefaChangeFeed) {
+        this.tarefaChangeFeed = tarefaChangeFeed;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("Opening change stream - Last-Event-ID: {}", lastEventId);
+        return tarefaChangeFeed.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.projeto_test.controller;
+
+import com.example.projeto_test.buisness.TarefaService;
+import com.example.projeto_test.buisness.TarefaSyncService;
+import com.example.projeto_test.dto.TarefaChangesDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/tasks")
+@CrossOrigin(origins = "http://localhost:3000")
+public class TarefaSyncController {
+
+    private final TarefaSyncService tarefaSyncService;
+
+    public TarefaSyncController(TarefaSyncService tarefaSyncService) {
+        this.tarefaSyncService = tarefaSyncService;
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<TarefaChangesDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "" + TarefaService.MAX_PAGE_SIZE) int limit) {
+        log.info("Fetching task changes since {}", since);
+        return ResponseEntity.ok(tarefaSyncService.getChanges(since, limit));
+    }
+}
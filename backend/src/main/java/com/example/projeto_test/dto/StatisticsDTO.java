@@ -0,0 +1,16 @@
+package com.example.projeto_test.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsDTO {
+
+    private long total;
+    private long pendentes;
+    private long concluidas;
+    private long canceladas;
+}
@@ -0,0 +1,25 @@
+package com.example.projeto_test.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TarefaBatchItemResultDTO {
+
+    private int index;
+    private ItemStatus status;
+    private Long id;
+    private Map<String, String> errors;
+
+    public enum ItemStatus {
+        CREATED,
+        INVALID,
+        FAILED,
+        MALFORMED
+    }
+}
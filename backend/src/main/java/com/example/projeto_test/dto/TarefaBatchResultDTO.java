@@ -0,0 +1,18 @@
+package com.example.projeto_test.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TarefaBatchResultDTO {
+
+    private int total;
+    private int created;
+    private int failed;
+    private List<TarefaBatchItemResultDTO> items;
+}
@@ -0,0 +1,26 @@
+package com.example.projeto_test.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Página da sincronização delta. O cliente guarda {@code version} e o envia como
+ * {@code since} na próxima chamada; enquanto {@code hasMore} for verdadeiro há
+ * mais alterações a buscar. Com {@code reset} o {@code since} não pôde ser
+ * retomado (outra época ou tombstones já expurgados): a página recomeça do
+ * início e o cliente descarta o estado local antes de aplicá-la.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TarefaChangesDTO {
+
+    private List<TarefaResponseDTO> upserts;
+    private List<Long> deletions;
+    private String version;
+    private boolean hasMore;
+    private boolean reset;
+}
@@ -0,0 +1,51 @@
+package com.example.projeto_test.dto;
+
+import com.example.projeto_test.exception.BusinessRuleException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição de paginação keyset sobre (dataCriacao, id), trafegada como token opaco.
+ */
+@Getter
+@AllArgsConstructor
+public class TarefaCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime dataCriacao;
+    private final Long id;
+
+    public static TarefaCursor of(TarefaResponseDTO tarefa) {
+        return new TarefaCursor(tarefa.getDataCriacao(), tarefa.getId());
+    }
+
+    public String encode() {
+        String raw = dataCriacao.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TarefaCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            return new TarefaCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BusinessRuleException(
+                    "CURSOR_INVALID",
+                    token,
+                    "Pagination cursor is invalid or has expired");
+        }
+    }
+}
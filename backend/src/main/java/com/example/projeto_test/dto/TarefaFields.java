@@ -0,0 +1,75 @@
+package com.example.projeto_test.dto;
+
+import com.example.projeto_test.exception.BusinessRuleException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Campos pedidos em {@code ?fields=} (sparse fieldsets), na ordem em que foram
+ * informados e sem repetição. Os nomes são os mesmos do JSON de
+ * {@link TarefaResponseDTO} e dos atributos da entidade.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TarefaFields {
+
+    public static final List<String> DISPONIVEIS = List.of(
+            "id", "titulo", "descricao", "status", "dataCriacao", "dataAtualizacao", "versaoAlteracao");
+
+    private final List<String> campos;
+
+    public static TarefaFields parse(String fields) {
+        Set<String> campos = new LinkedHashSet<>();
+        for (String campo : fields.split(",")) {
+            String nome = campo.trim();
+            if (nome.isEmpty()) {
+                continue;
+            }
+            if (!DISPONIVEIS.contains(nome)) {
+                throw new BusinessRuleException(
+                        "FIELDS_INVALID",
+                        nome,
+                        String.format("Field '%s' is invalid. Accepted values: %s", nome, String.join(", ", DISPONIVEIS)));
+            }
+            campos.add(nome);
+        }
+
+        if (campos.isEmpty()) {
+            throw new BusinessRuleException(
+                    "FIELDS_INVALID",
+                    fields,
+                    "Parameter 'fields' must list at least one field");
+        }
+        return new TarefaFields(List.copyOf(campos));
+    }
+
+    /** Projeção em memória, para respostas montadas a partir do DTO completo. */
+    public Map<String, Object> select(TarefaResponseDTO tarefa) {
+        Map<String, Object> valores = new LinkedHashMap<>();
+        for (String campo : campos) {
+            valores.put(campo, switch (campo) {
+                case "id" -> tarefa.getId();
+                case "titulo" -> tarefa.getTitulo();
+                case "descricao" -> tarefa.getDescricao();
+                case "status" -> tarefa.getStatus();
+                case "dataCriacao" -> tarefa.getDataCriacao();
+                case "dataAtualizacao" -> tarefa.getDataAtualizacao();
+                case "versaoAlteracao" -> tarefa.getVersaoAlteracao();
+                default -> throw new IllegalStateException("Unknown field: " + campo);
+            });
+        }
+        return valores;
+    }
+
+    /** Chave estável para diferenciar ETags de respostas com campos diferentes. */
+    public String key() {
+        return String.join(".", campos);
+    }
+}
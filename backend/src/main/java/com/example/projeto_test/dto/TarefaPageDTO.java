@@ -0,0 +1,25 @@
+package com.example.projeto_test.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TarefaPageDTO<T> {
+
+    private List<T> items;
+    private String next;
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    public <R> TarefaPageDTO<R> map(Function<? super T, ? extends R> conversao) {
+        return new TarefaPageDTO<>(items.stream().<R>map(conversao).toList(), next);
+    }
+}
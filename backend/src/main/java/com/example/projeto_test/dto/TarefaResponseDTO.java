@@ -18,6 +18,7 @@ public class TarefaResponseDTO {
     private Tarefa.StatusTarefa status;
     private LocalDateTime dataCriacao;
     private LocalDateTime dataAtualizacao;
+    private Long versaoAlteracao;
     
    
     public static TarefaResponseDTO fromEntity(Tarefa tarefa) {
@@ -28,6 +29,7 @@ public class TarefaResponseDTO {
                 .status(tarefa.getStatus())
                 .dataCriacao(tarefa.getDataCriacao())
                 .dataAtualizacao(tarefa.getDataAtualizacao())
+                .versaoAlteracao(tarefa.getVersaoAlteracao())
                 .build();
     }
 }
\ No newline at end of file
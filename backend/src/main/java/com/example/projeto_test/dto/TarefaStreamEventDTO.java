@@ -0,0 +1,15 @@
+package com.example.projeto_test.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TarefaStreamEventDTO {
+
+    private String type;
+    private Long id;
+    private TarefaResponseDTO tarefa;
+}
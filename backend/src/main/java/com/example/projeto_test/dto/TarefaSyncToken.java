@@ -0,0 +1,44 @@
+package com.example.projeto_test.dto;
+
+import com.example.projeto_test.exception.BusinessRuleException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Posição da sincronização delta: a versão de alteração e a época do alocador
+ * que a gerou, trafegadas como {@code <época>-<versão>}. A época muda a cada
+ * inicialização, então uma versão de antes de um restart nunca é confundida
+ * com uma da numeração nova.
+ */
+@Getter
+@AllArgsConstructor
+public class TarefaSyncToken {
+
+    private static final char SEPARATOR = '-';
+
+    private final long epoca;
+    private final long versao;
+
+    public String encode() {
+        return Long.toString(epoca) + SEPARATOR + versao;
+    }
+
+    public static TarefaSyncToken decode(String token) {
+        try {
+            int separator = token.indexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            long versao = Long.parseLong(token.substring(separator + 1));
+            if (versao < 0) {
+                throw new IllegalArgumentException("Negative version");
+            }
+            return new TarefaSyncToken(Long.parseLong(token.substring(0, separator)), versao);
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessRuleException(
+                    "SINCE_INVALID",
+                    token,
+                    "Parameter 'since' must be omitted or a version returned by a previous sync");
+        }
+    }
+}
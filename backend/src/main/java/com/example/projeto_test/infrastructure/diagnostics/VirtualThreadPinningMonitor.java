@@ -0,0 +1,127 @@
+package com.example.projeto_test.infrastructure.diagnostics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registra, via JFR, os eventos {@code jdk.VirtualThreadPinned} (thread virtual
+ * presa à carrier thread enquanto bloqueada) agrupados pelo ponto de origem, e
+ * os expõe em {@code /actuator/pinning}.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "pinning")
+@ConditionalOnProperty(name = "tarefas.diagnostics.pinning.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.example.projeto_test";
+    private static final int MAX_ORIGINS = 200;
+
+    private final Duration threshold;
+    private final Map<String, PinningStats> porOrigem = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${tarefas.diagnostics.pinning.threshold-ms:20}") long thresholdMs) {
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started - threshold {} ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+        log.info("Virtual thread pinning summary: {}", report());
+    }
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("thresholdMs", threshold.toMillis());
+        relatorio.put("totalEvents", total.sum());
+        relatorio.put("origins", porOrigem.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, PinningStats> e) -> e.getValue().count.sum())
+                        .reversed())
+                .map(e -> Map.of(
+                        "origin", e.getKey(),
+                        "count", e.getValue().count.sum(),
+                        "totalMs", Duration.ofNanos(e.getValue().totalNanos.sum()).toMillis(),
+                        "maxMs", Duration.ofNanos(e.getValue().maxNanos.get()).toMillis()))
+                .toList());
+        return relatorio;
+    }
+
+    private void record(RecordedEvent event) {
+        total.increment();
+
+        String origem = origin(event.getStackTrace());
+        PinningStats stats = porOrigem.size() < MAX_ORIGINS
+                ? porOrigem.computeIfAbsent(origem, chave -> new PinningStats())
+                : porOrigem.computeIfAbsent("(other)", chave -> new PinningStats());
+
+        long nanos = event.getDuration().toNanos();
+        stats.count.increment();
+        stats.totalNanos.add(nanos);
+        stats.maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Identifica a origem pelo frame mais interno (onde a thread ficou presa,
+     * normalmente em Hikari/H2) e pelo primeiro frame da aplicação que levou até ele.
+     */
+    private static String origin(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "(no stack trace)";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String topo = describe(frames.get(0));
+        for (int i = 1; i < frames.size(); i++) {
+            RecordedFrame frame = frames.get(i);
+            if (frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+                return topo + " <- " + describe(frame);
+            }
+        }
+        return topo;
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static final class PinningStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
@@ -12,11 +12,16 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tarefas")
+@Table(name = "tarefas", indexes = {
+        @Index(name = "idx_tarefas_status_data_criacao", columnList = "status, data_criacao"),
+        @Index(name = "idx_tarefas_data_criacao_id", columnList = "data_criacao DESC, id DESC"),
+        @Index(name = "idx_tarefas_versao_alteracao", columnList = "versao_alteracao")
+})
 public class Tarefa {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tarefas_seq")
+    @SequenceGenerator(name = "tarefas_seq", sequenceName = "tarefas_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Title is required")
@@ -39,6 +44,10 @@ public class Tarefa {
     @Column(name = "data_atualizacao")
     private LocalDateTime dataAtualizacao;
     
+    /** Versão global da última escrita, atribuída pelo TarefaVersionAllocator (sincronização delta). */
+    @Column(name = "versao_alteracao", nullable = false)
+    private Long versaoAlteracao;
+    
     @PrePersist
     protected void onCreate() {
         dataCriacao = LocalDateTime.now();
@@ -0,0 +1,49 @@
+package com.example.projeto_test.infrastructure.entitys;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tarefa finalizada movida de {@code tarefas} pelo arquivamento. Mantém o id e
+ * a versão de alteração originais; as linhas só são inseridas pelo
+ * {@code INSERT ... SELECT} do arquivamento e nunca alteradas.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tarefas_arquivo", indexes = {
+        @Index(name = "idx_arquivo_status_data_criacao", columnList = "status, data_criacao"),
+        @Index(name = "idx_arquivo_data_criacao_id", columnList = "data_criacao DESC, id DESC")
+})
+public class TarefaArquivada {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String titulo;
+
+    @Column(columnDefinition = "TEXT")
+    private String descricao;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Tarefa.StatusTarefa status;
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+
+    @Column(name = "versao_alteracao", nullable = false)
+    private Long versaoAlteracao;
+
+    @Column(name = "data_arquivamento", nullable = false)
+    private LocalDateTime dataArquivamento;
+}
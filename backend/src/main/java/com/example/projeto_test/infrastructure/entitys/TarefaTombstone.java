@@ -0,0 +1,44 @@
+package com.example.projeto_test.infrastructure.entitys;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de uma tarefa removida, para que a sincronização delta
+ * ({@code GET /tasks/changes}) possa informar exclusões. Só é inserido, nunca
+ * alterado: {@link #isNew()} evita o SELECT que o {@code save} faria por ter id atribuído.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tarefas_tombstones", indexes = {
+        @Index(name = "idx_tombstones_versao_alteracao", columnList = "versao_alteracao")
+})
+public class TarefaTombstone implements Persistable<Long> {
+
+    @Id
+    @Column(name = "tarefa_id")
+    private Long tarefaId;
+
+    @Column(name = "versao_alteracao", nullable = false)
+    private Long versaoAlteracao;
+
+    @Column(name = "data_remocao", nullable = false)
+    private LocalDateTime dataRemocao;
+
+    @Override
+    public Long getId() {
+        return tarefaId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.projeto_test.infrastructure.entitys.repository;
+
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.TarefaArquivada;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TarefaArquivoRepository extends JpaRepository<TarefaArquivada, Long> {
+
+    String RESPONSE_PROJECTION = "SELECT new com.example.projeto_test.dto.TarefaResponseDTO("
+            + "a.id, a.titulo, a.descricao, a.status, a.dataCriacao, a.dataAtualizacao, a.versaoAlteracao) "
+            + "FROM TarefaArquivada a ";
+
+    /**
+     * Próximo lote a arquivar, com as linhas bloqueadas até o fim da transação:
+     * uma alteração concorrente espera o lote terminar em vez de se perder
+     * entre a cópia e a remoção.
+     */
+    @Query(value = "SELECT id FROM tarefas WHERE status IN ('CONCLUIDA', 'CANCELADA') "
+            + "AND data_atualizacao < :limite ORDER BY data_atualizacao LIMIT :quantidade FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockArchivableIds(@Param("limite") LocalDateTime limite, @Param("quantidade") int quantidade);
+
+    @Modifying
+    @Query(value = "INSERT INTO tarefas_arquivo (id, titulo, descricao, status, data_criacao, data_atualizacao, "
+            + "versao_alteracao, data_arquivamento) "
+            + "SELECT id, titulo, descricao, status, data_criacao, data_atualizacao, versao_alteracao, :dataArquivamento "
+            + "FROM tarefas WHERE id IN (:ids)",
+            nativeQuery = true)
+    int copyFromTarefas(@Param("ids") Collection<Long> ids, @Param("dataArquivamento") LocalDateTime dataArquivamento);
+
+    @Modifying
+    @Query(value = "DELETE FROM tarefas WHERE id IN (:ids)", nativeQuery = true)
+    int deleteFromTarefas(@Param("ids") Collection<Long> ids);
+
+    @Query(RESPONSE_PROJECTION + "WHERE a.id = :id")
+    Optional<TarefaResponseDTO> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_PROJECTION + "WHERE a.status = :status ORDER BY a.dataCriacao DESC, a.id DESC")
+    List<TarefaResponseDTO> findResponsesByStatus(@Param("status") Tarefa.StatusTarefa status);
+
+    @Query(RESPONSE_PROJECTION + "WHERE a.titulo LIKE %:titulo% ORDER BY a.dataCriacao DESC, a.id DESC")
+    List<TarefaResponseDTO> findResponsesByTituloContaining(@Param("titulo") String titulo);
+
+    @Query(RESPONSE_PROJECTION + "ORDER BY a.dataCriacao DESC, a.id DESC")
+    List<TarefaResponseDTO> findFirstPage(Limit limit);
+
+    @Query(RESPONSE_PROJECTION + "WHERE a.dataCriacao < :dataCriacao "
+            + "OR (a.dataCriacao = :dataCriacao AND a.id < :id) "
+            + "ORDER BY a.dataCriacao DESC, a.id DESC")
+    List<TarefaResponseDTO> findPageAfter(@Param("dataCriacao") LocalDateTime dataCriacao,
+                                          @Param("id") Long id,
+                                          Limit limit);
+
+    @Query("SELECT a.status AS status, COUNT(a) AS total FROM TarefaArquivada a GROUP BY a.status")
+    List<TarefaStatusCount> countGroupByStatus();
+}
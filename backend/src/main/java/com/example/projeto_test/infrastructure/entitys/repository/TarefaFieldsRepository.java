@@ -0,0 +1,28 @@
+package com.example.projeto_test.infrastructure.entitys.repository;
+
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import jakarta.persistence.Tuple;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Consultas com lista de colunas variável (sparse fieldsets): só os atributos
+ * pedidos entram no SELECT, cada um com alias igual ao nome do atributo.
+ */
+public interface TarefaFieldsRepository {
+
+    /**
+     * Página keyset ordenada por (dataCriacao, id) decrescentes; {@code id} e
+     * {@code dataCriacao} são sempre selecionados para montar o próximo cursor.
+     * Sem cursor quando {@code dataCriacao} é nulo.
+     */
+    List<Tuple> findFieldsPage(List<String> campos, LocalDateTime dataCriacao, Long id, int limit);
+
+    List<Tuple> findFieldsByStatus(List<String> campos, Tarefa.StatusTarefa status);
+
+    List<Tuple> findFieldsByTituloContaining(List<String> campos, String titulo);
+
+    List<Tuple> findFieldsByIdIn(List<String> campos, Collection<Long> ids);
+}
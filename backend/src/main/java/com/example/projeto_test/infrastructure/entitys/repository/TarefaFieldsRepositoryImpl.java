@@ -0,0 +1,84 @@
+package com.example.projeto_test.infrastructure.entitys.repository;
+
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class TarefaFieldsRepositoryImpl implements TarefaFieldsRepository {
+
+    private static final List<String> CAMPOS_DO_CURSOR = List.of("id", "dataCriacao");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findFieldsPage(List<String> campos, LocalDateTime dataCriacao, Long id, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Tarefa> t = query.from(Tarefa.class);
+
+        query.multiselect(selecao(t, campos, CAMPOS_DO_CURSOR));
+        if (dataCriacao != null) {
+            query.where(cb.or(
+                    cb.lessThan(t.get("dataCriacao"), dataCriacao),
+                    cb.and(cb.equal(t.get("dataCriacao"), dataCriacao), cb.lessThan(t.get("id"), id))));
+        }
+        query.orderBy(cb.desc(t.get("dataCriacao")), cb.desc(t.get("id")));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Tuple> findFieldsByStatus(List<String> campos, Tarefa.StatusTarefa status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Tarefa> t = query.from(Tarefa.class);
+
+        query.multiselect(selecao(t, campos, List.of())).where(cb.equal(t.get("status"), status));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<Tuple> findFieldsByTituloContaining(List<String> campos, String titulo) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Tarefa> t = query.from(Tarefa.class);
+
+        query.multiselect(selecao(t, campos, List.of()))
+                .where(cb.like(t.get("titulo"), "%" + titulo + "%"));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<Tuple> findFieldsByIdIn(List<String> campos, Collection<Long> ids) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Tarefa> t = query.from(Tarefa.class);
+
+        query.multiselect(selecao(t, campos, List.of())).where(t.get("id").in(ids));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private static List<Selection<?>> selecao(Root<Tarefa> t, List<String> campos, List<String> obrigatorios) {
+        Set<String> nomes = new LinkedHashSet<>(campos);
+        nomes.addAll(obrigatorios);
+
+        List<Selection<?>> selecao = new ArrayList<>(nomes.size());
+        for (String nome : nomes) {
+            selecao.add(t.get(nome).alias(nome));
+        }
+        return selecao;
+    }
+}
@@ -1,15 +1,43 @@
 package com.example.projeto_test.infrastructure.entitys.repository;
 
+import com.example.projeto_test.dto.TarefaResponseDTO;
 import com.example.projeto_test.infrastructure.entitys.Tarefa;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Só o CRUD e as consultas que o serviço usa, sem o restante do JpaRepository
+ * (Sort, Pageable, Example): toda implementação, inclusive a particionada,
+ * cumpre a interface inteira.
+ */
 @Repository
-public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
+public interface TarefaRepository extends ListCrudRepository<Tarefa, Long>, TarefaFieldsRepository {
+    
+    int EXPORT_FETCH_SIZE = 500;
+    
+    /** Exposto do SimpleJpaRepository: envia os INSERTs em lote pendentes. */
+    void flush();
+    
+    /**
+     * Projeção por construtor: as consultas de leitura montam o DTO de resposta
+     * direto do result set, sem hidratar entidades gerenciadas nem snapshots de
+     * dirty checking.
+     */
+    String RESPONSE_PROJECTION = "SELECT new com.example.projeto_test.dto.TarefaResponseDTO("
+            + "t.id, t.titulo, t.descricao, t.status, t.dataCriacao, t.dataAtualizacao, t.versaoAlteracao) FROM Tarefa t ";
     
     List<Tarefa> findByStatus(Tarefa.StatusTarefa status);
     
@@ -18,5 +46,80 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
     
     List<Tarefa> findAllByOrderByDataCriacaoDesc();
     
+    @Query("SELECT t.dataAtualizacao FROM Tarefa t WHERE t.id = :id")
+    Optional<LocalDateTime> findDataAtualizacaoById(@Param("id") Long id);
+    
+    @Query(RESPONSE_PROJECTION + "WHERE t.id = :id")
+    Optional<TarefaResponseDTO> findResponseById(@Param("id") Long id);
+    
+    @Query(RESPONSE_PROJECTION + "WHERE t.id IN :ids")
+    List<TarefaResponseDTO> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query(RESPONSE_PROJECTION + "WHERE t.status = :status")
+    List<TarefaResponseDTO> findResponsesByStatus(@Param("status") Tarefa.StatusTarefa status);
+    
+    @Query(RESPONSE_PROJECTION + "WHERE t.titulo LIKE %:titulo%")
+    List<TarefaResponseDTO> findResponsesByTituloContaining(@Param("titulo") String titulo);
+    
+    @Query(RESPONSE_PROJECTION + "ORDER BY t.dataCriacao DESC")
+    List<TarefaResponseDTO> findAllResponsesOrderByDataCriacaoDesc();
+    
+    @Query(RESPONSE_PROJECTION + "ORDER BY t.dataCriacao DESC, t.id DESC")
+    List<TarefaResponseDTO> findFirstPage(Limit limit);
+    
+    @Query(RESPONSE_PROJECTION + "WHERE t.dataCriacao < :dataCriacao "
+            + "OR (t.dataCriacao = :dataCriacao AND t.id < :id) "
+            + "ORDER BY t.dataCriacao DESC, t.id DESC")
+    List<TarefaResponseDTO> findPageAfter(@Param("dataCriacao") LocalDateTime dataCriacao,
+                               @Param("id") Long id,
+                               Limit limit);
+    
+    /** Tarefas alteradas no intervalo de versões (desde, ate], em ordem de versão. */
+    @Query(RESPONSE_PROJECTION + "WHERE t.versaoAlteracao > :desde AND t.versaoAlteracao <= :ate "
+            + "ORDER BY t.versaoAlteracao")
+    List<TarefaResponseDTO> findChangedBetween(@Param("desde") long desde,
+                                               @Param("ate") long ate,
+                                               Limit limit);
+    
+    @Query("SELECT COALESCE(MAX(t.versaoAlteracao), 0) FROM Tarefa t")
+    long findMaxVersaoAlteracao();
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Tarefa t ORDER BY t.id")
+    Stream<Tarefa> streamAllForExport();
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.id AS id, t.titulo AS titulo FROM Tarefa t")
+    Stream<TarefaTitulo> streamAllTitulos();
+    
+    /** Carga do modelo de leitura: em ordem crescente, para que cada linha entre no fim. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query(RESPONSE_PROJECTION + "ORDER BY t.dataCriacao, t.id")
+    Stream<TarefaResponseDTO> streamAllResponses();
+    
     long countByStatus(Tarefa.StatusTarefa status);
+    
+    /**
+     * Transição de status condicional em um único UPDATE: só altera a linha se o
+     * status atual for o esperado. Retorna 0 quando a tarefa não existe ou já
+     * está em outro status.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tarefa t SET t.status = :novoStatus, t.dataAtualizacao = :dataAtualizacao, "
+            + "t.versaoAlteracao = :versao "
+            + "WHERE t.id = :id AND t.status = :statusEsperado")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("statusEsperado") Tarefa.StatusTarefa statusEsperado,
+                              @Param("novoStatus") Tarefa.StatusTarefa novoStatus,
+                              @Param("dataAtualizacao") LocalDateTime dataAtualizacao,
+                              @Param("versao") long versao);
+    
+    @Query("SELECT t.status AS status, COUNT(t) AS total FROM Tarefa t GROUP BY t.status")
+    List<TarefaStatusCount> countGroupByStatus();
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.example.projeto_test.infrastructure.entitys.repository;
+
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+
+public interface TarefaStatusCount {
+
+    Tarefa.StatusTarefa getStatus();
+
+    Long getTotal();
+}
@@ -0,0 +1,8 @@
+package com.example.projeto_test.infrastructure.entitys.repository;
+
+public interface TarefaTitulo {
+
+    Long getId();
+
+    String getTitulo();
+}
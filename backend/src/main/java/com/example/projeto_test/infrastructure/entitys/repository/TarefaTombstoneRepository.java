@@ -0,0 +1,32 @@
+package com.example.projeto_test.infrastructure.entitys.repository;
+
+import com.example.projeto_test.infrastructure.entitys.TarefaTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TarefaTombstoneRepository extends JpaRepository<TarefaTombstone, Long> {
+
+    @Query("SELECT t FROM TarefaTombstone t WHERE t.versaoAlteracao > :desde AND t.versaoAlteracao <= :ate "
+            + "ORDER BY t.versaoAlteracao")
+    List<TarefaTombstone> findRemovedBetween(@Param("desde") long desde,
+                                             @Param("ate") long ate,
+                                             Limit limit);
+
+    @Query("SELECT COALESCE(MAX(t.versaoAlteracao), 0) FROM TarefaTombstone t")
+    long findMaxVersaoAlteracao();
+
+    @Query("SELECT COALESCE(MAX(t.versaoAlteracao), 0) FROM TarefaTombstone t WHERE t.dataRemocao < :limite")
+    long findMaxVersaoRemovedBefore(@Param("limite") LocalDateTime limite);
+
+    @Modifying
+    @Query("DELETE FROM TarefaTombstone t WHERE t.versaoAlteracao <= :versao")
+    int deleteUpToVersion(@Param("versao") long versao);
+}
@@ -0,0 +1,30 @@
+package com.example.projeto_test.infrastructure.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuração do log amostrado de requisições ({@code tarefas.logging.requests.*}).
+ * As taxas são indexadas pelo padrão da rota, por exemplo {@code /tasks/{id}}.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "tarefas.logging.requests")
+public class RequestLogProperties {
+
+    private boolean enabled = false;
+
+    /** Taxa usada quando a rota não tem entrada em {@link #rates} (0.0 a 1.0). */
+    private double defaultRate = 0.01;
+
+    private Map<String, Double> rates = new HashMap<>();
+
+    /** Requisições mais lentas que isso são sempre registradas. */
+    private long slowThresholdMs = 500;
+}
@@ -0,0 +1,75 @@
+package com.example.projeto_test.infrastructure.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Um único evento estruturado por requisição, amostrado por rota. Erros (status
+ * 5xx) e requisições lentas são sempre registrados; o restante segue a taxa
+ * configurada em {@link RequestLogProperties}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tarefas.logging.requests.enabled", havingValue = "true")
+public class RequestLogSamplingFilter extends OncePerRequestFilter {
+
+    private static final String ROTA_DESCONHECIDA = "UNMATCHED";
+
+    private final RequestLogProperties properties;
+
+    public RequestLogSamplingFilter(RequestLogProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long inicio = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long duracaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+            String rota = rota(request);
+            int status = response.getStatus();
+
+            if (deveRegistrar(rota, status, duracaoMs)) {
+                log.atInfo()
+                        .setMessage("request")
+                        .addKeyValue("method", request.getMethod())
+                        .addKeyValue("route", rota)
+                        .addKeyValue("status", status)
+                        .addKeyValue("durationMs", duracaoMs)
+                        .log();
+            }
+        }
+    }
+
+    private boolean deveRegistrar(String rota, int status, long duracaoMs) {
+        if (!log.isInfoEnabled()) {
+            return false;
+        }
+        if (status >= 500 || duracaoMs >= properties.getSlowThresholdMs()) {
+            return true;
+        }
+        Double taxa = properties.getRates().get(rota);
+        double taxaEfetiva = taxa != null ? taxa : properties.getDefaultRate();
+        return taxaEfetiva > 0 && ThreadLocalRandom.current().nextDouble() < taxaEfetiva;
+    }
+
+    private static String rota(HttpServletRequest request) {
+        // Padrão da rota (ex.: /tasks/{id}) em vez da URI, para não espalhar as taxas por id
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return padrao != null ? padrao.toString() : ROTA_DESCONHECIDA;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.projeto_test.infrastructure.metrics;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Saturação do pool Hikari (conexões ativas / máximo). O Spring Boot já publica
+ * os valores brutos em {@code hikaricp.connections.*}; este gauge entrega a razão
+ * pronta para alertas.
+ */
+@Slf4j
+@Component
+public class DataSourcePoolMetrics {
+
+    public static final String SATURATION_GAUGE = "tarefas.db.pool.saturation";
+
+    public DataSourcePoolMetrics(DataSource dataSource, MeterRegistry registry) {
+        // Com réplicas, o DataSource é um proxy de roteamento; fora de transação ele resolve para o principal
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        if (hikari == null) {
+            log.info("DataSource is not Hikari, pool saturation gauge not registered");
+            return;
+        }
+        Gauge.builder(SATURATION_GAUGE, hikari, DataSourcePoolMetrics::saturation)
+                .description("Active connections divided by maximum pool size")
+                .register(registry);
+    }
+
+    private static double saturation(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        int maximo = dataSource.getMaximumPoolSize();
+        if (pool == null || maximo <= 0) {
+            return 0;
+        }
+        return (double) pool.getActiveConnections() / maximo;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.projeto_test.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas das operações de tarefas. Os timers são criados uma única vez no
+ * construtor; o registro em {@link #record(Operacao, long)} é só uma leitura de
+ * {@code System.nanoTime()} e um incremento no histograma, sem alocação. Os
+ * métodos de serviço não chamam {@code record} diretamente: são anotados com
+ * {@link TarefaTimed}.
+ */
+@Component
+public class TarefaMetrics {
+
+    public static final String OPERATION_TIMER = "tarefas.operation";
+    public static final String BUSINESS_RULE_COUNTER = "tarefas.business.rule.violations";
+
+    public enum Operacao {
+        CREATE("create"),
+        CREATE_BATCH("create_batch"),
+        LIST("list"),
+        GET("get"),
+        UPDATE("update"),
+        COMPLETE("complete"),
+        CANCEL("cancel"),
+        DELETE("delete"),
+        SEARCH_STATUS("search_status"),
+        SEARCH_TITLE("search_title"),
+        SYNC("sync");
+
+        private final String tag;
+
+        Operacao(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final Map<Operacao, Timer> timers = new EnumMap<>(Operacao.class);
+    private final Map<String, Counter> violacoesPorRegra = new ConcurrentHashMap<>();
+
+    public TarefaMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Operacao operacao : Operacao.values()) {
+            timers.put(operacao, Timer.builder(OPERATION_TIMER)
+                    .description("Latency of TarefaService operations")
+                    .tag("operation", operacao.tag)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100_000))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(registry));
+        }
+    }
+
+    /**
+     * Registra a duração de uma operação iniciada em {@code inicioNanos}
+     * (valor de {@code System.nanoTime()}).
+     */
+    public void record(Operacao operacao, long inicioNanos) {
+        timers.get(operacao).record(System.nanoTime() - inicioNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void businessRuleViolated(String regra) {
+        // As regras são constantes do código, então o número de séries é limitado
+        violacoesPorRegra.computeIfAbsent(regra != null ? regra : "UNKNOWN", r -> Counter.builder(BUSINESS_RULE_COUNTER)
+                .description("BusinessRuleException occurrences by rule code")
+                .tag("rule", r)
+                .register(registry))
+                .increment();
+    }
+}
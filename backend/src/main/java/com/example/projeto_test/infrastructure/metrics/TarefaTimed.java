@@ -0,0 +1,17 @@
+package com.example.projeto_test.infrastructure.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Grava a duração do método no timer {@link TarefaMetrics#OPERATION_TIMER} da
+ * operação indicada. Aplicada pelo {@link TarefaTimedAspect}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TarefaTimed {
+
+    TarefaMetrics.Operacao value();
+}
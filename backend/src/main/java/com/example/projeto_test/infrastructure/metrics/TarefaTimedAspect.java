@@ -0,0 +1,37 @@
+package com.example.projeto_test.infrastructure.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mede os métodos anotados com {@link TarefaTimed}. Fica por fora do cache e da
+ * transação ({@link #ORDEM}), então acertos do {@code @Cacheable} e o commit
+ * entram na medição.
+ */
+@Aspect
+@Component
+@Order(TarefaTimedAspect.ORDEM)
+public class TarefaTimedAspect {
+
+    public static final int ORDEM = Ordered.HIGHEST_PRECEDENCE;
+
+    private final TarefaMetrics tarefaMetrics;
+
+    public TarefaTimedAspect(TarefaMetrics tarefaMetrics) {
+        this.tarefaMetrics = tarefaMetrics;
+    }
+
+    @Around("@annotation(timed)")
+    public Object medir(ProceedingJoinPoint joinPoint, TarefaTimed timed) throws Throwable {
+        long inicio = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            tarefaMetrics.record(timed.value(), inicio);
+        }
+    }
+}
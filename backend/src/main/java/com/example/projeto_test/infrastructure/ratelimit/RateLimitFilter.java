@@ -0,0 +1,161 @@
+package com.example.projeto_test.infrastructure.ratelimit;
+
+import com.example.projeto_test.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita cada cliente (header {@code client-header} ou, sem ele, o IP) em
+ * {@code /tasks} e {@code /statistics} com um {@link TokenBucketLimiter}. Cada
+ * rota consome fichas conforme o custo configurado; sem fichas, a resposta é
+ * 429 com {@code Retry-After} e o mesmo {@link ErrorResponse} do
+ * GlobalExceptionHandler, antes de chegar ao controller e ao banco.
+ *
+ * <p>O CORS vem do {@code @CrossOrigin} dos controllers, aplicado só depois deste
+ * filtro; a recusa consulta a mesma configuração (pelo HandlerMappingIntrospector
+ * do Spring MVC) para que o navegador entregue o 429 e o {@code Retry-After} ao
+ * frontend em vez de uma falha de CORS opaca.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tarefas.ratelimit.enabled", havingValue = "true")
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final List<String> PREFIXOS = List.of("/tasks", "/statistics");
+    private static final int CUSTO_PADRAO = 1;
+
+    private final ObjectMapper objectMapper;
+    private final CorsConfigurationSource corsSource;
+    private final String clientHeader;
+    private final TokenBucketLimiter limiter;
+    private final List<CustoDeRota> custos;
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           ObjectMapper objectMapper,
+                           @Qualifier("mvcHandlerMappingIntrospector") CorsConfigurationSource corsSource) {
+        this.objectMapper = objectMapper;
+        this.corsSource = corsSource;
+        this.clientHeader = properties.getClientHeader();
+        this.limiter = new TokenBucketLimiter(
+                properties.getRequestsPerSecond(), properties.getBurst(), properties.getMaxClients());
+        this.custos = custos(properties);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Preflight de CORS não chega aos controllers
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+        String caminho = caminho(request);
+        return PREFIXOS.stream().noneMatch(prefixo -> caminho.equals(prefixo) || caminho.startsWith(prefixo + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        int custo = custo(request.getMethod(), PathContainer.parsePath(caminho(request)));
+        long esperaNanos = limiter.tryAcquire(cliente(request), custo, System.nanoTime());
+        if (esperaNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long segundos = Math.max(1, (esperaNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        log.debug("Rate limit exceeded - {} {} (cost {}), retry in {}s",
+                request.getMethod(), request.getRequestURI(), custo, segundos);
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Muitas Requisições")
+                .message("Limite de requisições excedido, tente novamente em instantes")
+                .details(Map.of("custo", String.valueOf(custo), "aguardarSegundos", String.valueOf(segundos)))
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(segundos));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        corsHeaders(request, response);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private void corsHeaders(HttpServletRequest request, HttpServletResponse response) {
+        String origem = request.getHeader(HttpHeaders.ORIGIN);
+        CorsConfiguration cors = origem == null ? null : corsSource.getCorsConfiguration(request);
+        String permitida = cors == null ? null : cors.checkOrigin(origem);
+        if (permitida == null) {
+            return;
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ORIGIN);
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, permitida);
+        // Retry-After não é um header liberado por padrão para o JavaScript
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.RETRY_AFTER);
+        if (Boolean.TRUE.equals(cors.getAllowCredentials())) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
+        }
+    }
+
+    private int custo(String metodo, PathContainer caminho) {
+        for (CustoDeRota rota : custos) {
+            if (rota.metodo().equals(metodo) && rota.padrao().matches(caminho)) {
+                return rota.custo();
+            }
+        }
+        return CUSTO_PADRAO;
+    }
+
+    private String cliente(HttpServletRequest request) {
+        String chave = request.getHeader(clientHeader);
+        // Prefixos separam os espaços de nomes: uma chave não colide com um IP
+        return chave == null || chave.isBlank() ? "ip:" + request.getRemoteAddr() : "key:" + chave;
+    }
+
+    private static String caminho(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /** Mais específicos primeiro, para {@code /tasks/export} não cair em {@code /tasks/{id}}. */
+    private static List<CustoDeRota> custos(RateLimitProperties properties) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        List<CustoDeRota> custos = new ArrayList<>();
+        properties.getCosts().forEach((metodo, rotas) -> rotas.forEach((padrao, custo) -> {
+            if (custo < 1 || custo > properties.getBurst()) {
+                throw new IllegalStateException(String.format(
+                        "Rate limit cost for %s %s must be between 1 and the burst (%d)", metodo, padrao, properties.getBurst()));
+            }
+            custos.add(new CustoDeRota(metodo.toUpperCase(Locale.ROOT), parser.parse(padrao), custo));
+        }));
+        custos.sort(Comparator.comparing(CustoDeRota::padrao, PathPattern.SPECIFICITY_COMPARATOR));
+        return List.copyOf(custos);
+    }
+
+    private record CustoDeRota(String metodo, PathPattern padrao, int custo) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.projeto_test.infrastructure.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Limite de requisições por cliente ({@code tarefas.ratelimit.*}) sobre
+ * {@code /tasks} e {@code /statistics}. Os custos são indexados por método e
+ * padrão de rota, por exemplo {@code costs.GET.[/tasks]=5}; rotas sem entrada
+ * custam 1.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "tarefas.ratelimit")
+public class RateLimitProperties {
+
+    private boolean enabled = false;
+
+    /** Fichas repostas por segundo, por cliente. */
+    private double requestsPerSecond = 50;
+
+    /** Capacidade do balde: a rajada que um cliente ocioso pode gastar de uma vez. */
+    private int burst = 100;
+
+    /** Header que identifica o cliente; sem ele, vale o IP. */
+    private String clientHeader = "X-API-Key";
+
+    /** Clientes acompanhados em memória; acima disso, os menos usados são descartados. */
+    private int maxClients = 100_000;
+
+    private Map<String, Map<String, Integer>> costs = new HashMap<>();
+}
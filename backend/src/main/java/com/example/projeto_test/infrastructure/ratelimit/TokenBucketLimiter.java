@@ -0,0 +1,66 @@
+package com.example.projeto_test.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de fichas por cliente na forma GCRA: em vez de fichas e instante da
+ * última reposição, cada cliente guarda um único {@code long}, o instante
+ * teórico em que o balde volta a ficar cheio. Consumir {@code custo} fichas
+ * avança esse instante em {@code custo} intervalos de reposição, e a requisição
+ * passa se ele não ficar mais de {@code capacidade} intervalos à frente de agora.
+ * A atualização é um compareAndSet, sem locks.
+ *
+ * <p>Um cliente ocioso por mais que {@code capacidade} intervalos tem o balde
+ * cheio, que é o mesmo que não ter estado: por isso o estado expira por acesso.
+ * Além disso, o número de clientes é limitado; um cliente descartado pelo
+ * limite volta com o balde cheio.
+ */
+public class TokenBucketLimiter {
+
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+    private final Cache<String, AtomicLong> clientes;
+
+    public TokenBucketLimiter(double porSegundo, int capacidade, int maxClientes) {
+        if (porSegundo <= 0 || capacidade < 1) {
+            throw new IllegalArgumentException("Rate limit needs a positive rate and a burst of at least 1");
+        }
+        this.intervaloNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / porSegundo));
+        this.toleranciaNanos = capacidade * intervaloNanos;
+        this.clientes = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofNanos(toleranciaNanos))
+                .maximumSize(maxClientes)
+                .build();
+    }
+
+    /**
+     * Tenta consumir {@code custo} fichas do cliente no instante {@code agora}
+     * ({@link System#nanoTime()}). Retorna 0 se a requisição passa, ou quantos
+     * nanossegundos faltam para que passe.
+     */
+    public long tryAcquire(String cliente, int custo, long agora) {
+        AtomicLong estado = clientes.get(cliente, chave -> new AtomicLong(Long.MIN_VALUE));
+        long incremento = custo * intervaloNanos;
+        while (true) {
+            long cheio = estado.get();
+            long novo = Math.max(cheio, agora) + incremento;
+            long espera = novo - toleranciaNanos - agora;
+            if (espera > 0) {
+                return espera;
+            }
+            if (estado.compareAndSet(cheio, novo)) {
+                return 0;
+            }
+        }
+    }
+
+    long trackedClients() {
+        clientes.cleanUp();
+        return clientes.estimatedSize();
+    }
+}
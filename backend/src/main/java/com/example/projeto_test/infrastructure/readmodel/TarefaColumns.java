@@ -0,0 +1,373 @@
+package com.example.projeto_test.infrastructure.readmodel;
+
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * Tarefas em colunas fora do heap, uma {@link MemorySegment} por atributo, com as
+ * linhas ordenadas por (dataCriacao, id) crescentes. Datas ficam em nanossegundos
+ * desde a época (UTC, como o {@code LocalDateTime} sem fuso), o status como
+ * ordinal e título/descrição como offset e tamanho numa arena de bytes UTF-8.
+ * O índice id -> linha (endereçamento aberto) também fica fora do heap.
+ *
+ * <p>Remoções só marcam a linha e alterações de texto gravam os bytes novos no
+ * fim da arena; o espaço morto é descartado quando a estrutura cresce e é
+ * copiada para uma {@link Arena} nova. A memória conta no limite de
+ * {@code -XX:MaxDirectMemorySize}.
+ *
+ * <p>Não é thread-safe: quem usa controla o acesso.
+ */
+public class TarefaColumns implements AutoCloseable {
+
+    private static final byte REMOVIDA = -1;
+    private static final long SEM_DATA = Long.MIN_VALUE;
+    private static final int SEM_TEXTO = -1;
+    // Ids da sequence começam em 1: zero marca posição livre no índice
+    private static final long LIVRE = 0;
+
+    private static final int CAPACIDADE_MINIMA = 16;
+    private static final long TEXTO_MINIMO = 1024;
+    private static final Tarefa.StatusTarefa[] STATUS = Tarefa.StatusTarefa.values();
+    // Bytes por linha de cada coluna, na ordem de colunas()
+    private static final long[] TAMANHOS = {
+            Long.BYTES, Long.BYTES, Long.BYTES, Long.BYTES, Long.BYTES, Long.BYTES, Integer.BYTES, Integer.BYTES, 1
+    };
+
+    private Arena arena;
+    private MemorySegment ids;
+    private MemorySegment criacao;
+    private MemorySegment atualizacao;
+    private MemorySegment versao;
+    private MemorySegment status;
+    private MemorySegment tituloOffset;
+    private MemorySegment tituloTamanho;
+    private MemorySegment descricaoOffset;
+    private MemorySegment descricaoTamanho;
+    private MemorySegment textos;
+    private MemorySegment indiceIds;
+    private MemorySegment indiceLinhas;
+
+    private int capacidade;
+    private int linhas;
+    private int removidas;
+    private long textoUsado;
+    private long textoVivo;
+    private long mascara;
+
+    public TarefaColumns() {
+        this(CAPACIDADE_MINIMA, TEXTO_MINIMO);
+    }
+
+    public TarefaColumns(int capacidadeInicial, long textoInicial) {
+        realocar(Math.max(CAPACIDADE_MINIMA, capacidadeInicial), Math.max(TEXTO_MINIMO, textoInicial));
+    }
+
+    public int size() {
+        return linhas - removidas;
+    }
+
+    /** Total reservado fora do heap, incluindo espaço morto ainda não compactado. */
+    public long reservedBytes() {
+        return capacidade * (6L * Long.BYTES + 2L * Integer.BYTES + 1)
+                + indiceIds.byteSize() + indiceLinhas.byteSize() + textos.byteSize();
+    }
+
+    /** Insere ou substitui a tarefa com o mesmo id. */
+    public void put(TarefaResponseDTO tarefa) {
+        byte[] titulo = tarefa.getTitulo().getBytes(StandardCharsets.UTF_8);
+        byte[] descricao = tarefa.getDescricao() == null ? null : tarefa.getDescricao().getBytes(StandardCharsets.UTF_8);
+        // Reserva antes de procurar a linha: uma realocação muda os índices
+        reservar(titulo.length + (descricao == null ? 0 : descricao.length));
+
+        long id = tarefa.getId();
+        long chave = nanos(tarefa.getDataCriacao());
+        int linha = find(id);
+        if (linha >= 0 && criacao.getAtIndex(JAVA_LONG, linha) == chave) {
+            textoVivo -= tamanhoDosTextos(linha);
+            escrever(linha, tarefa, chave, titulo, descricao);
+            return;
+        }
+        if (linha >= 0) {
+            marcarRemovida(linha);
+        }
+
+        int posicao = posicaoDeInsercao(chave, id);
+        deslocar(posicao);
+        linhas++;
+        escrever(posicao, tarefa, chave, titulo, descricao);
+        indexar(id, posicao);
+    }
+
+    public void remove(long id) {
+        int linha = find(id);
+        if (linha >= 0) {
+            marcarRemovida(linha);
+        }
+    }
+
+    /**
+     * Até {@code quantidade} tarefas em ordem de dataCriacao e id decrescentes,
+     * a partir da posição seguinte ao cursor (ou do início, com cursor nulo).
+     */
+    public List<TarefaResponseDTO> page(LocalDateTime dataCriacao, Long id, int quantidade) {
+        int linha = dataCriacao == null ? linhas - 1 : posicaoDeInsercao(nanos(dataCriacao), id) - 1;
+        List<TarefaResponseDTO> resultado = new ArrayList<>(Math.min(quantidade, size()));
+        for (; linha >= 0 && resultado.size() < quantidade; linha--) {
+            if (status.get(JAVA_BYTE, linha) != REMOVIDA) {
+                resultado.add(ler(linha));
+            }
+        }
+        return resultado;
+    }
+
+    /** Varre só a coluna de status; as demais são lidas apenas nas linhas que casam. */
+    public List<TarefaResponseDTO> byStatus(Tarefa.StatusTarefa filtro) {
+        byte ordinal = (byte) filtro.ordinal();
+        List<TarefaResponseDTO> resultado = new ArrayList<>();
+        for (int linha = linhas - 1; linha >= 0; linha--) {
+            if (status.get(JAVA_BYTE, linha) == ordinal) {
+                resultado.add(ler(linha));
+            }
+        }
+        return resultado;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private void escrever(int linha, TarefaResponseDTO tarefa, long chave, byte[] titulo, byte[] descricao) {
+        ids.setAtIndex(JAVA_LONG, linha, tarefa.getId());
+        criacao.setAtIndex(JAVA_LONG, linha, chave);
+        atualizacao.setAtIndex(JAVA_LONG, linha,
+                tarefa.getDataAtualizacao() == null ? SEM_DATA : nanos(tarefa.getDataAtualizacao()));
+        versao.setAtIndex(JAVA_LONG, linha, tarefa.getVersaoAlteracao() == null ? 0 : tarefa.getVersaoAlteracao());
+        status.set(JAVA_BYTE, linha, (byte) tarefa.getStatus().ordinal());
+
+        tituloOffset.setAtIndex(JAVA_LONG, linha, anexar(titulo));
+        tituloTamanho.setAtIndex(JAVA_INT, linha, titulo.length);
+        descricaoOffset.setAtIndex(JAVA_LONG, linha, descricao == null ? 0 : anexar(descricao));
+        descricaoTamanho.setAtIndex(JAVA_INT, linha, descricao == null ? SEM_TEXTO : descricao.length);
+    }
+
+    private TarefaResponseDTO ler(int linha) {
+        long dataAtualizacao = atualizacao.getAtIndex(JAVA_LONG, linha);
+        return new TarefaResponseDTO(
+                ids.getAtIndex(JAVA_LONG, linha),
+                texto(tituloOffset.getAtIndex(JAVA_LONG, linha), tituloTamanho.getAtIndex(JAVA_INT, linha)),
+                texto(descricaoOffset.getAtIndex(JAVA_LONG, linha), descricaoTamanho.getAtIndex(JAVA_INT, linha)),
+                STATUS[status.get(JAVA_BYTE, linha)],
+                data(criacao.getAtIndex(JAVA_LONG, linha)),
+                dataAtualizacao == SEM_DATA ? null : data(dataAtualizacao),
+                versao.getAtIndex(JAVA_LONG, linha));
+    }
+
+    private long anexar(byte[] bytes) {
+        long offset = textoUsado;
+        MemorySegment.copy(bytes, 0, textos, JAVA_BYTE, offset, bytes.length);
+        textoUsado += bytes.length;
+        textoVivo += bytes.length;
+        return offset;
+    }
+
+    private String texto(long offset, int tamanho) {
+        if (tamanho == SEM_TEXTO) {
+            return null;
+        }
+        byte[] bytes = new byte[tamanho];
+        MemorySegment.copy(textos, JAVA_BYTE, offset, bytes, 0, tamanho);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long tamanhoDosTextos(int linha) {
+        return tituloTamanho.getAtIndex(JAVA_INT, linha) + Math.max(0, descricaoTamanho.getAtIndex(JAVA_INT, linha));
+    }
+
+    private void marcarRemovida(int linha) {
+        status.set(JAVA_BYTE, linha, REMOVIDA);
+        textoVivo -= tamanhoDosTextos(linha);
+        removidas++;
+    }
+
+    /** Primeira linha com (dataCriacao, id) maior ou igual à chave; linhas removidas mantêm a chave. */
+    private int posicaoDeInsercao(long chave, long id) {
+        int inicio = 0;
+        int fim = linhas;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            long chaveMeio = criacao.getAtIndex(JAVA_LONG, meio);
+            if (chaveMeio < chave || (chaveMeio == chave && ids.getAtIndex(JAVA_LONG, meio) < id)) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Abre espaço na posição empurrando o restante uma linha para frente. Tarefas
+     * novas têm a maior dataCriacao, então quase sempre a posição é o fim.
+     */
+    private void deslocar(int posicao) {
+        int quantidade = linhas - posicao;
+        if (quantidade == 0) {
+            return;
+        }
+        MemorySegment[] colunas = colunas();
+        for (int c = 0; c < colunas.length; c++) {
+            long tamanho = TAMANHOS[c];
+            MemorySegment.copy(colunas[c], posicao * tamanho, colunas[c], (posicao + 1) * tamanho, quantidade * tamanho);
+        }
+        for (int linha = posicao + 1; linha <= linhas; linha++) {
+            indexar(ids.getAtIndex(JAVA_LONG, linha), linha);
+        }
+    }
+
+    private MemorySegment[] colunas() {
+        return new MemorySegment[] {
+                ids, criacao, atualizacao, versao, tituloOffset, descricaoOffset, tituloTamanho, descricaoTamanho, status
+        };
+    }
+
+    private int find(long id) {
+        for (long slot = mix(id) & mascara; ; slot = (slot + 1) & mascara) {
+            long chave = indiceIds.getAtIndex(JAVA_LONG, slot);
+            if (chave == LIVRE) {
+                return -1;
+            }
+            if (chave == id) {
+                int linha = indiceLinhas.getAtIndex(JAVA_INT, slot);
+                return status.get(JAVA_BYTE, linha) == REMOVIDA ? -1 : linha;
+            }
+        }
+    }
+
+    private void indexar(long id, int linha) {
+        long slot = mix(id) & mascara;
+        while (true) {
+            long chave = indiceIds.getAtIndex(JAVA_LONG, slot);
+            if (chave == LIVRE || chave == id) {
+                indiceIds.setAtIndex(JAVA_LONG, slot, id);
+                indiceLinhas.setAtIndex(JAVA_INT, slot, linha);
+                return;
+            }
+            slot = (slot + 1) & mascara;
+        }
+    }
+
+    private void reservar(long bytesDeTexto) {
+        if (linhas < capacidade && textoUsado + bytesDeTexto <= textos.byteSize()) {
+            return;
+        }
+        int vivas = size() + 1;
+        realocar(Math.max(CAPACIDADE_MINIMA, vivas * 2), Math.max(TEXTO_MINIMO, (textoVivo + bytesDeTexto) * 2));
+    }
+
+    /**
+     * Copia as linhas vivas, na mesma ordem, para segmentos novos numa arena nova
+     * e libera a anterior. O índice fica com o dobro da capacidade (ocupação
+     * máxima de 50%), sem entradas de linhas removidas.
+     */
+    private void realocar(int novaCapacidade, long novoTexto) {
+        Arena nova = Arena.ofShared();
+        long tamanhoIndice = Long.highestOneBit((long) novaCapacidade * 2 - 1) << 1;
+
+        Arena antiga = arena;
+        MemorySegment[] antigas = antiga == null ? null : colunas();
+        MemorySegment statusAntigo = status;
+        MemorySegment textosAntigos = textos;
+        int linhasAntigas = linhas;
+
+        ids = nova.allocate(JAVA_LONG, novaCapacidade);
+        criacao = nova.allocate(JAVA_LONG, novaCapacidade);
+        atualizacao = nova.allocate(JAVA_LONG, novaCapacidade);
+        versao = nova.allocate(JAVA_LONG, novaCapacidade);
+        tituloOffset = nova.allocate(JAVA_LONG, novaCapacidade);
+        descricaoOffset = nova.allocate(JAVA_LONG, novaCapacidade);
+        tituloTamanho = nova.allocate(JAVA_INT, novaCapacidade);
+        descricaoTamanho = nova.allocate(JAVA_INT, novaCapacidade);
+        status = nova.allocate(JAVA_BYTE, novaCapacidade);
+        textos = nova.allocate(novoTexto);
+        indiceIds = nova.allocate(JAVA_LONG, tamanhoIndice);
+        indiceLinhas = nova.allocate(JAVA_INT, tamanhoIndice);
+        arena = nova;
+        mascara = tamanhoIndice - 1;
+        capacidade = novaCapacidade;
+        linhas = 0;
+        removidas = 0;
+        textoUsado = 0;
+        textoVivo = 0;
+
+        if (antiga != null) {
+            copiarVivas(antigas, statusAntigo, textosAntigos, linhasAntigas);
+            antiga.close();
+        }
+    }
+
+    private void copiarVivas(MemorySegment[] antigas, MemorySegment statusAntigo,
+                             MemorySegment textosAntigos, int linhasAntigas) {
+        MemorySegment[] novas = colunas();
+        for (int origem = 0; origem < linhasAntigas; origem++) {
+            if (statusAntigo.get(JAVA_BYTE, origem) == REMOVIDA) {
+                continue;
+            }
+            int destino = linhas++;
+            for (int c = 0; c < novas.length; c++) {
+                MemorySegment.copy(antigas[c], origem * TAMANHOS[c], novas[c], destino * TAMANHOS[c], TAMANHOS[c]);
+            }
+
+            // Os offsets copiados ainda apontam para a arena antiga
+            tituloOffset.setAtIndex(JAVA_LONG, destino, copiarTexto(textosAntigos,
+                    tituloOffset.getAtIndex(JAVA_LONG, destino), tituloTamanho.getAtIndex(JAVA_INT, destino)));
+            int tamanhoDescricao = descricaoTamanho.getAtIndex(JAVA_INT, destino);
+            if (tamanhoDescricao != SEM_TEXTO) {
+                descricaoOffset.setAtIndex(JAVA_LONG, destino, copiarTexto(textosAntigos,
+                        descricaoOffset.getAtIndex(JAVA_LONG, destino), tamanhoDescricao));
+            }
+
+            indexar(ids.getAtIndex(JAVA_LONG, destino), destino);
+        }
+    }
+
+    private long copiarTexto(MemorySegment origem, long offset, int tamanho) {
+        long destino = textoUsado;
+        MemorySegment.copy(origem, offset, textos, destino, tamanho);
+        textoUsado += tamanho;
+        textoVivo += tamanho;
+        return destino;
+    }
+
+    private static long nanos(LocalDateTime data) {
+        return data.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + data.getNano();
+    }
+
+    private static LocalDateTime data(long nanos) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(nanos, 1_000_000_000L), (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    /** Finalizador do MurmurHash3 (fmix64): ids sequenciais espalhados pelo índice. */
+    private static long mix(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
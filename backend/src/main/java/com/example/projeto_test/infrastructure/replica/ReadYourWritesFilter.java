@@ -0,0 +1,63 @@
+package com.example.projeto_test.infrastructure.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Read-your-writes por cliente: depois de uma escrita bem-sucedida, as leituras
+ * do mesmo cliente vão ao principal durante {@code sticky-window-ms}, que deve
+ * cobrir o atraso tolerado das réplicas.
+ */
+@Component
+@ConditionalOnProperty(name = "tarefas.replica.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> METODOS_DE_LEITURA = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+    private static final int MAX_CLIENTES = 100_000;
+
+    private final String clientHeader;
+    private final Cache<String, Boolean> escritasRecentes;
+
+    public ReadYourWritesFilter(ReplicaProperties properties) {
+        this.clientHeader = properties.getClientHeader();
+        this.escritasRecentes = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(properties.getStickyWindowMs()))
+                .maximumSize(MAX_CLIENTES)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String cliente = cliente(request);
+        if (escritasRecentes.getIfPresent(cliente) != null) {
+            ReplicaRoutingContext.usePrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+            if (!METODOS_DE_LEITURA.contains(request.getMethod()) && response.getStatus() < 400) {
+                escritasRecentes.put(cliente, Boolean.TRUE);
+            }
+        }
+    }
+
+    private String cliente(HttpServletRequest request) {
+        String id = request.getHeader(clientHeader);
+        return id == null || id.isBlank() ? request.getRemoteAddr() : id;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.projeto_test.infrastructure.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pool do banco principal e um pool por réplica. Os pools das réplicas não
+ * disputam conexões com as escritas; o Hikari publica as métricas de cada um
+ * em {@code hikaricp.connections.*} com a tag {@code pool}.
+ */
+@Slf4j
+@Getter
+public class ReplicaDataSources implements AutoCloseable {
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+
+    private ReplicaDataSources(HikariDataSource primary, Map<String, HikariDataSource> replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    public static ReplicaDataSources create(HikariDataSource primary, ReplicaProperties properties, MeterRegistry registry) {
+        if (properties.getUrls().isEmpty()) {
+            throw new IllegalStateException("tarefas.replica.urls must list at least one replica");
+        }
+
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int indice = 0; indice < properties.getUrls().size(); indice++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setJdbcUrl(properties.getUrls().get(indice));
+            replica.setUsername(properties.getUsername());
+            replica.setPassword(properties.getPassword());
+            replica.setMaximumPoolSize(properties.getPoolSize());
+            replica.setReadOnly(true);
+            replica.setPoolName("tarefas-replica-" + indice);
+            replica.setMetricRegistry(registry);
+            replicas.put(replica.getPoolName(), replica);
+        }
+
+        log.info("Read replica routing enabled - {} replicas, max lag {} ms",
+                replicas.size(), properties.getMaxLagMs());
+        return new ReplicaDataSources(primary, replicas);
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.projeto_test.infrastructure.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mede o atraso das réplicas com uma linha de heartbeat: grava o horário atual
+ * no principal e lê o valor que cada réplica enxerga. Réplicas sem medição ou
+ * acima de {@code max-lag-ms} saem do rodízio até a próxima medição. A mesma
+ * linha leva a {@link ReplicaWatermark}, lida pelo {@link ReplicaWatermarkReader}.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    public static final String LAG_GAUGE = "tarefas.db.replica.lag";
+
+    private static final long SEM_MEDICAO = Long.MAX_VALUE;
+
+    private final JdbcTemplate principal;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> atrasos = new LinkedHashMap<>();
+    private final long maxLagMs;
+    private final ObjectProvider<ReplicaWatermark> watermark;
+    private volatile List<String> saudaveis = List.of();
+
+    public ReplicaLagMonitor(ReplicaDataSources dataSources, ReplicaProperties properties, MeterRegistry registry,
+                             ObjectProvider<ReplicaWatermark> watermark) {
+        this.principal = new JdbcTemplate(dataSources.getPrimary());
+        this.maxLagMs = properties.getMaxLagMs();
+        this.watermark = watermark;
+
+        dataSources.getReplicas().forEach((nome, dataSource) -> {
+            AtomicLong atraso = new AtomicLong(SEM_MEDICAO);
+            replicas.put(nome, new JdbcTemplate(dataSource));
+            atrasos.put(nome, atraso);
+            Gauge.builder(LAG_GAUGE, atraso, valor -> valor.get() == SEM_MEDICAO ? Double.NaN : valor.get())
+                    .description("Replication lag measured by the heartbeat row")
+                    .baseUnit("milliseconds")
+                    .tag("replica", nome)
+                    .register(registry);
+        });
+    }
+
+    @PostConstruct
+    public void createHeartbeatTable() {
+        principal.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat ("
+                + "id INT PRIMARY KEY, atualizado_em TIMESTAMP(6) NOT NULL, versao_segura BIGINT DEFAULT 0 NOT NULL)");
+        principal.execute("ALTER TABLE replica_heartbeat ADD COLUMN IF NOT EXISTS versao_segura BIGINT DEFAULT 0 NOT NULL");
+    }
+
+    @Scheduled(fixedDelayString = "${tarefas.replica.heartbeat-interval-ms:500}")
+    public void heartbeat() {
+        // Marca lida antes da gravação: tudo até ela já estava confirmado quando a linha foi escrita
+        ReplicaWatermark fonte = watermark.getIfAvailable();
+        long marca = fonte == null ? 0 : fonte.currentWatermark();
+        try {
+            principal.update("MERGE INTO replica_heartbeat KEY (id) VALUES (1, ?, ?)", LocalDateTime.now(), marca);
+        } catch (DataAccessException ex) {
+            // Sem heartbeat novo, o atraso medido cresce e as réplicas saem do rodízio sozinhas
+            log.warn("Replica heartbeat write failed: {}", ex.getMessage());
+        }
+
+        List<String> dentroDoLimite = new ArrayList<>();
+        replicas.forEach((nome, replica) -> {
+            long atraso = medir(nome, replica);
+            atrasos.get(nome).set(atraso);
+            if (atraso <= maxLagMs) {
+                dentroDoLimite.add(nome);
+            }
+        });
+        saudaveis = List.copyOf(dentroDoLimite);
+    }
+
+    /** Réplicas aptas a receber leituras, na ordem da configuração. */
+    public List<String> healthyReplicas() {
+        return saudaveis;
+    }
+
+    private long medir(String nome, JdbcTemplate replica) {
+        try {
+            List<LocalDateTime> valores = replica.queryForList(
+                    "SELECT atualizado_em FROM replica_heartbeat WHERE id = 1", LocalDateTime.class);
+            if (valores.isEmpty()) {
+                return SEM_MEDICAO;
+            }
+            return Math.max(0, Duration.between(valores.get(0), LocalDateTime.now()).toMillis());
+        } catch (DataAccessException ex) {
+            log.debug("Replica {} lag check failed: {}", nome, ex.getMessage());
+            return SEM_MEDICAO;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.projeto_test.infrastructure.replica;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réplicas de leitura ({@code tarefas.replica.*}). Transações
+ * {@code readOnly} vão para uma réplica cujo atraso medido esteja dentro de
+ * {@link #maxLagMs}; o restante fica no banco principal.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "tarefas.replica")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<String> urls = new ArrayList<>();
+
+    private String username = "sa";
+
+    private String password = "";
+
+    /** Conexões por réplica. */
+    private int poolSize = 10;
+
+    /** Atraso máximo tolerado; réplicas acima disso (ou sem medição) não recebem leituras. */
+    private long maxLagMs = 1000;
+
+    private long heartbeatIntervalMs = 500;
+
+    /** Depois de uma escrita, as leituras do mesmo cliente ficam no principal por este tempo. */
+    private long stickyWindowMs = 5000;
+
+    /** Identifica o cliente para a fixação; sem o header, vale o endereço remoto. */
+    private String clientHeader = "X-Client-Id";
+}
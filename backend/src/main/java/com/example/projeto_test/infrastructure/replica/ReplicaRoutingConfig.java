@@ -0,0 +1,67 @@
+package com.example.projeto_test.infrastructure.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Substitui o DataSource da autoconfiguração por um roteador entre principal e
+ * réplicas. O pool principal continua configurado por {@code spring.datasource.*}
+ * e {@code spring.datasource.hikari.*}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tarefas.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSources replicaDataSources(DataSourceProperties dataSourceProperties,
+                                                 Environment environment,
+                                                 ReplicaProperties properties,
+                                                 MeterRegistry registry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        return ReplicaDataSources.create(primary, properties, registry);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaDataSources replicaDataSources,
+                                               ReplicaProperties properties,
+                                               MeterRegistry registry,
+                                               ObjectProvider<ReplicaWatermark> watermark) {
+        // ObjectProvider: quem fornece a marca depende dos repositórios, que dependem deste DataSource
+        return new ReplicaLagMonitor(replicaDataSources, properties, registry, watermark);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaDataSources replicaDataSources, ReplicaLagMonitor replicaLagMonitor) {
+        Map<Object, Object> destinos = new HashMap<>(replicaDataSources.getReplicas());
+        destinos.put(ReplicaRoutingDataSource.PRIMARY, replicaDataSources.getPrimary());
+
+        ReplicaRoutingDataSource roteador = new ReplicaRoutingDataSource(replicaLagMonitor);
+        roteador.setTargetDataSources(destinos);
+        roteador.setDefaultTargetDataSource(replicaDataSources.getPrimary());
+        roteador.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(roteador);
+    }
+
+    @Bean
+    public ReplicaWatermarkReader replicaWatermarkReader(DataSource dataSource) {
+        return new ReplicaWatermarkReader(dataSource);
+    }
+}
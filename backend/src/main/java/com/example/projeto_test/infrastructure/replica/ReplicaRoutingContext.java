@@ -0,0 +1,60 @@
+package com.example.projeto_test.infrastructure.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * Marca, para a thread da requisição, que as leituras devem ir ao banco
+ * principal mesmo em transações {@code readOnly} (read-your-writes), e registra
+ * se alguma leitura foi servida por uma réplica.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> SOMENTE_PRINCIPAL = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> LEU_DE_REPLICA = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void usePrimary() {
+        SOMENTE_PRINCIPAL.set(Boolean.TRUE);
+    }
+
+    /**
+     * Executa {@code leitura} com as consultas indo ao principal. Para cargas cujo
+     * resultado fica guardado pela vida do processo (modelos em memória): uma
+     * réplica atrasada os deixaria com dados antigos marcados como atuais.
+     */
+    public static <T> T onPrimary(Supplier<T> leitura) {
+        boolean anterior = isPrimaryRequired();
+        SOMENTE_PRINCIPAL.set(Boolean.TRUE);
+        try {
+            return leitura.get();
+        } finally {
+            if (!anterior) {
+                SOMENTE_PRINCIPAL.remove();
+            }
+        }
+    }
+
+    public static boolean isPrimaryRequired() {
+        return SOMENTE_PRINCIPAL.get() != null;
+    }
+
+    static void markReplicaRead() {
+        LEU_DE_REPLICA.set(Boolean.TRUE);
+    }
+
+    /**
+     * Se alguma conexão desde o último {@link #clear()} veio de uma réplica. O
+     * resultado dessas leituras pode ser anterior ao ETag e ao cache, que
+     * acompanham o principal: não deve ser guardado sob eles.
+     */
+    public static boolean isReadFromReplica() {
+        return LEU_DE_REPLICA.get() != null;
+    }
+
+    public static void clear() {
+        SOMENTE_PRINCIPAL.remove();
+        LEU_DE_REPLICA.remove();
+    }
+}
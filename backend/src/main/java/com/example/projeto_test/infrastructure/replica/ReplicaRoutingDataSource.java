@@ -0,0 +1,44 @@
+package com.example.projeto_test.infrastructure.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Escolhe o banco por conexão: transações {@code readOnly} vão para as réplicas
+ * saudáveis em rodízio; escritas, leituras fora de transação e clientes com
+ * escrita recente ficam no principal. Cada conexão de réplica entregue fica
+ * registrada em {@link ReplicaRoutingContext#isReadFromReplica()}.
+ *
+ * <p>Precisa estar atrás de um {@code LazyConnectionDataSourceProxy}: o
+ * gerenciador de transação só marca a transação como readOnly depois de abri-la,
+ * e a conexão real tem que ser obtida depois disso.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger rodizio = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReplicaRoutingContext.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+
+        List<String> saudaveis = lagMonitor.healthyReplicas();
+        if (saudaveis.isEmpty()) {
+            return PRIMARY;
+        }
+        ReplicaRoutingContext.markReplicaRead();
+        return saudaveis.get(Math.floorMod(rodizio.getAndIncrement(), saudaveis.size()));
+    }
+}
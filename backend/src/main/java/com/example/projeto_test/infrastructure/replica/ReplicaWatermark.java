@@ -0,0 +1,12 @@
+package com.example.projeto_test.infrastructure.replica;
+
+/**
+ * Versão gravada pelo {@link ReplicaLagMonitor} junto com cada heartbeat. A
+ * linha só chega a uma réplica depois de tudo que o principal confirmou antes
+ * dela, então o valor lido numa réplica é um limite do que ela já contém.
+ */
+@FunctionalInterface
+public interface ReplicaWatermark {
+
+    long currentWatermark();
+}
@@ -0,0 +1,35 @@
+package com.example.projeto_test.infrastructure.replica;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Lê a {@link ReplicaWatermark} que o heartbeat levou até o banco que atende a
+ * transação corrente. Usa o DataSource roteado, então a consulta sai pela mesma
+ * conexão das demais leituras da transação.
+ */
+public class ReplicaWatermarkReader {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReplicaWatermarkReader(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Limita {@code versaoPrincipal} ao que o banco da transação já recebeu: no
+     * principal ela vale inteira; numa réplica, só até a marca do último heartbeat
+     * que chegou a ela.
+     */
+    public long visibleVersion(long versaoPrincipal) {
+        // A consulta vem antes do teste: é ela que obtém a conexão e define o destino
+        List<Long> marcas = jdbcTemplate.queryForList(
+                "SELECT versao_segura FROM replica_heartbeat WHERE id = 1", Long.class);
+        if (!ReplicaRoutingContext.isReadFromReplica()) {
+            return versaoPrincipal;
+        }
+        return marcas.isEmpty() ? 0 : Math.min(versaoPrincipal, marcas.get(0));
+    }
+}
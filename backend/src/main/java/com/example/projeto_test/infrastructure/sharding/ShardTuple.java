@@ -0,0 +1,74 @@
+package com.example.projeto_test.infrastructure.sharding;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** {@link Tuple} lido via JDBC nas partições, com os mesmos aliases das consultas Criteria. */
+class ShardTuple implements Tuple {
+
+    private final LinkedHashMap<String, Object> valores;
+
+    ShardTuple(LinkedHashMap<String, Object> valores) {
+        this.valores = valores;
+    }
+
+    @Override
+    public <X> X get(TupleElement<X> elemento) {
+        return get(elemento.getAlias(), elemento.getJavaType());
+    }
+
+    @Override
+    public <X> X get(String alias, Class<X> tipo) {
+        return tipo.cast(get(alias));
+    }
+
+    @Override
+    public Object get(String alias) {
+        if (!valores.containsKey(alias)) {
+            throw new IllegalArgumentException("Unknown tuple alias: " + alias);
+        }
+        return valores.get(alias);
+    }
+
+    @Override
+    public <X> X get(int i, Class<X> tipo) {
+        return tipo.cast(get(i));
+    }
+
+    @Override
+    public Object get(int i) {
+        return toArray()[i];
+    }
+
+    @Override
+    public Object[] toArray() {
+        return valores.values().toArray();
+    }
+
+    @Override
+    public List<TupleElement<?>> getElements() {
+        List<TupleElement<?>> elementos = new ArrayList<>(valores.size());
+        for (Map.Entry<String, Object> valor : valores.entrySet()) {
+            elementos.add(new Elemento(valor.getKey(), valor.getValue() == null ? Object.class : valor.getValue().getClass()));
+        }
+        return elementos;
+    }
+
+    private record Elemento(String alias, Class<?> tipo) implements TupleElement<Object> {
+
+        @Override
+        public Class<?> getJavaType() {
+            return tipo;
+        }
+
+        @Override
+        public String getAlias() {
+            return alias;
+        }
+    }
+}
@@ -0,0 +1,574 @@
+package com.example.projeto_test.infrastructure.sharding;
+
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaStatusCount;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaTitulo;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link TarefaRepository} sobre as partições de {@link TarefaShards}, via JDBC.
+ * Operações por id vão direto à partição do id; listagens consultam todas em
+ * paralelo e intercalam os resultados já ordenados por {@code dataCriacao DESC,
+ * id DESC}, o que mantém a paginação por cursor idêntica à de um banco só.
+ *
+ * <p>Numa transação de escrita, as partições tocadas entram nela (ver
+ * {@link TarefaShards}): um rollback no serviço desfaz também o que foi gravado
+ * nas partições, inclusive um {@link #saveAll} espalhado por várias. A exportação
+ * percorre uma partição por vez, em ordem de id dentro de cada uma.
+ */
+public class ShardedTarefaRepository implements TarefaRepository {
+
+    private static final String SELECT_TAREFA = "SELECT id, titulo, descricao, status, data_criacao, "
+            + "data_atualizacao, versao_alteracao FROM tarefas ";
+    private static final String RECENTES = "ORDER BY data_criacao DESC, id DESC";
+    private static final String INSERT = "INSERT INTO tarefas (id, titulo, descricao, status, data_criacao, "
+            + "data_atualizacao, versao_alteracao) VALUES (:id, :titulo, :descricao, :status, :dataCriacao, "
+            + ":dataAtualizacao, :versaoAlteracao)";
+    private static final String UPDATE = "UPDATE tarefas SET titulo = :titulo, descricao = :descricao, "
+            + "status = :status, data_atualizacao = :dataAtualizacao, versao_alteracao = :versaoAlteracao "
+            + "WHERE id = :id";
+
+    /** Atributo da entidade -> coluna; também é a lista branca dos campos aceitos no SQL. */
+    private static final Map<String, String> COLUNAS = Map.of(
+            "id", "id",
+            "titulo", "titulo",
+            "descricao", "descricao",
+            "status", "status",
+            "dataCriacao", "data_criacao",
+            "dataAtualizacao", "data_atualizacao",
+            "versaoAlteracao", "versao_alteracao");
+    private static final List<String> CAMPOS_DE_ORDENACAO = List.of("id", "dataCriacao");
+
+    private static final RowMapper<Tarefa> TAREFA = (rs, linha) -> Tarefa.builder()
+            .id(rs.getLong("id"))
+            .titulo(rs.getString("titulo"))
+            .descricao(rs.getString("descricao"))
+            .status(Tarefa.StatusTarefa.valueOf(rs.getString("status")))
+            .dataCriacao(rs.getObject("data_criacao", LocalDateTime.class))
+            .dataAtualizacao(rs.getObject("data_atualizacao", LocalDateTime.class))
+            .versaoAlteracao(rs.getLong("versao_alteracao"))
+            .build();
+
+    private static final Comparator<Tarefa> TAREFAS_RECENTES = Comparator
+            .comparing(Tarefa::getDataCriacao)
+            .thenComparing(Tarefa::getId)
+            .reversed();
+    private static final Comparator<Tarefa> TAREFAS_ANTIGAS = Comparator
+            .comparing(Tarefa::getDataCriacao)
+            .thenComparing(Tarefa::getId);
+    private static final Comparator<Tuple> TUPLAS_RECENTES = Comparator
+            .comparing((Tuple tupla) -> tupla.get("dataCriacao", LocalDateTime.class))
+            .thenComparing(tupla -> tupla.get("id", Long.class))
+            .reversed();
+
+    private final TarefaShards shards;
+    private final TarefaIdAllocator idAllocator;
+
+    public ShardedTarefaRepository(TarefaShards shards, TarefaIdAllocator idAllocator) {
+        this.shards = shards;
+        this.idAllocator = idAllocator;
+    }
+
+    @Override
+    public <S extends Tarefa> S save(S tarefa) {
+        LocalDateTime agora = LocalDateTime.now();
+        if (tarefa.getId() == null) {
+            prepararNova(tarefa, agora);
+            shards.forId(tarefa.getId()).update(INSERT, parametros(tarefa));
+            return tarefa;
+        }
+
+        tarefa.setDataAtualizacao(agora);
+        NamedParameterJdbcTemplate jdbc = shards.forId(tarefa.getId());
+        if (jdbc.update(UPDATE, parametros(tarefa)) == 0) {
+            jdbc.update(INSERT, parametros(tarefa));
+        }
+        return tarefa;
+    }
+
+    @Override
+    public <S extends Tarefa> List<S> saveAll(Iterable<S> tarefas) {
+        LocalDateTime agora = LocalDateTime.now();
+        Map<Integer, List<SqlParameterSource>> novas = new TreeMap<>();
+        List<S> salvas = new ArrayList<>();
+
+        for (S tarefa : tarefas) {
+            if (tarefa.getId() != null) {
+                salvas.add(save(tarefa));
+                continue;
+            }
+            prepararNova(tarefa, agora);
+            novas.computeIfAbsent(shards.indexFor(tarefa.getId()), indice -> new ArrayList<>()).add(parametros(tarefa));
+            salvas.add(tarefa);
+        }
+
+        shards.scatter(novas.keySet(), (indice, jdbc) ->
+                jdbc.batchUpdate(INSERT, novas.get(indice).toArray(SqlParameterSource[]::new)));
+        return salvas;
+    }
+
+    /** Cada comando já é gravado na partição; não há contexto de persistência pendente. */
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public int updateStatusIfCurrent(Long id,
+                                     Tarefa.StatusTarefa statusEsperado,
+                                     Tarefa.StatusTarefa novoStatus,
+                                     LocalDateTime dataAtualizacao,
+                                     long versao) {
+        return shards.forId(id).update(
+                "UPDATE tarefas SET status = :novoStatus, data_atualizacao = :dataAtualizacao, "
+                        + "versao_alteracao = :versao WHERE id = :id AND status = :statusEsperado",
+                new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("statusEsperado", statusEsperado.name())
+                        .addValue("novoStatus", novoStatus.name())
+                        .addValue("dataAtualizacao", dataAtualizacao)
+                        .addValue("versao", versao));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        shards.forId(id).update("DELETE FROM tarefas WHERE id = :id", Map.of("id", id));
+    }
+
+    @Override
+    public void delete(Tarefa tarefa) {
+        deleteById(tarefa.getId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        Map<Integer, List<Long>> grupos = porShard(ids);
+        shards.scatter(grupos.keySet(), (indice, jdbc) ->
+                jdbc.update("DELETE FROM tarefas WHERE id IN (:ids)", Map.of("ids", grupos.get(indice))));
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Tarefa> tarefas) {
+        deleteAllById(StreamSupport.stream(tarefas.spliterator(), false).map(Tarefa::getId).toList());
+    }
+
+    @Override
+    public void deleteAll() {
+        shards.scatter(jdbc -> jdbc.getJdbcTemplate().update("DELETE FROM tarefas"));
+    }
+
+    @Override
+    public Optional<Tarefa> findById(Long id) {
+        return shards.forId(id)
+                .query(SELECT_TAREFA + "WHERE id = :id", Map.of("id", id), TAREFA)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return shards.forId(id).queryForObject(
+                "SELECT COUNT(*) FROM tarefas WHERE id = :id", Map.of("id", id), Long.class) > 0;
+    }
+
+    @Override
+    public Optional<LocalDateTime> findDataAtualizacaoById(Long id) {
+        return shards.forId(id)
+                .query("SELECT data_atualizacao FROM tarefas WHERE id = :id", Map.of("id", id),
+                        (rs, linha) -> rs.getObject("data_atualizacao", LocalDateTime.class))
+                .stream()
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    @Override
+    public Optional<TarefaResponseDTO> findResponseById(Long id) {
+        return findById(id).map(TarefaResponseDTO::fromEntity);
+    }
+
+    @Override
+    public List<Tarefa> findAllById(Iterable<Long> ids) {
+        Map<Integer, List<Long>> grupos = porShard(ids);
+        List<List<Tarefa>> partes = shards.scatter(grupos.keySet(), (indice, jdbc) ->
+                jdbc.query(SELECT_TAREFA + "WHERE id IN (:ids) " + RECENTES, Map.of("ids", grupos.get(indice)), TAREFA));
+        return merge(partes, TAREFAS_RECENTES, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<TarefaResponseDTO> findResponsesByIdIn(Collection<Long> ids) {
+        return respostas(findAllById(ids));
+    }
+
+    @Override
+    public List<Tarefa> findAll() {
+        return recentes("", new MapSqlParameterSource(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Tarefa> findAllByOrderByDataCriacaoDesc() {
+        return findAll();
+    }
+
+    @Override
+    public List<TarefaResponseDTO> findAllResponsesOrderByDataCriacaoDesc() {
+        return respostas(findAll());
+    }
+
+    @Override
+    public List<Tarefa> findByStatus(Tarefa.StatusTarefa status) {
+        return recentes("WHERE status = :status ", new MapSqlParameterSource("status", status.name()), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<TarefaResponseDTO> findResponsesByStatus(Tarefa.StatusTarefa status) {
+        return respostas(findByStatus(status));
+    }
+
+    @Override
+    public List<Tarefa> findByTituloContaining(String titulo) {
+        return recentes("WHERE titulo LIKE :padrao ", new MapSqlParameterSource("padrao", "%" + titulo + "%"), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<TarefaResponseDTO> findResponsesByTituloContaining(String titulo) {
+        return respostas(findByTituloContaining(titulo));
+    }
+
+    @Override
+    public List<TarefaResponseDTO> findFirstPage(Limit limit) {
+        return respostas(recentes("", new MapSqlParameterSource(), maximo(limit)));
+    }
+
+    @Override
+    public List<TarefaResponseDTO> findPageAfter(LocalDateTime dataCriacao, Long id, Limit limit) {
+        return respostas(recentes(
+                "WHERE data_criacao < :dataCriacao OR (data_criacao = :dataCriacao AND id < :id) ",
+                new MapSqlParameterSource().addValue("dataCriacao", dataCriacao).addValue("id", id),
+                maximo(limit)));
+    }
+
+    @Override
+    public List<TarefaResponseDTO> findChangedBetween(long desde, long ate, Limit limit) {
+        int maximo = maximo(limit);
+        MapSqlParameterSource parametros = new MapSqlParameterSource()
+                .addValue("desde", desde)
+                .addValue("ate", ate)
+                .addValue("limite", maximo);
+        String sql = SELECT_TAREFA + "WHERE versao_alteracao > :desde AND versao_alteracao <= :ate "
+                + "ORDER BY versao_alteracao" + (limit.isLimited() ? " LIMIT :limite" : "");
+
+        List<List<Tarefa>> partes = shards.scatter(jdbc -> jdbc.query(sql, parametros, TAREFA));
+        return respostas(merge(partes, Comparator.comparing(Tarefa::getVersaoAlteracao), maximo));
+    }
+
+    @Override
+    public long findMaxVersaoAlteracao() {
+        return shards.scatter(jdbc -> jdbc.getJdbcTemplate()
+                        .queryForObject("SELECT COALESCE(MAX(versao_alteracao), 0) FROM tarefas", Long.class))
+                .stream()
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0);
+    }
+
+    @Override
+    public long count() {
+        return shards.scatter(jdbc -> jdbc.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM tarefas", Long.class))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public long countByStatus(Tarefa.StatusTarefa status) {
+        return shards.scatter(jdbc -> jdbc.queryForObject(
+                        "SELECT COUNT(*) FROM tarefas WHERE status = :status", Map.of("status", status.name()), Long.class))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public List<TarefaStatusCount> countGroupByStatus() {
+        Map<Tarefa.StatusTarefa, Long> totais = new EnumMap<>(Tarefa.StatusTarefa.class);
+        List<List<StatusCount>> partes = shards.scatter(jdbc -> jdbc.getJdbcTemplate().query(
+                "SELECT status, COUNT(*) AS total FROM tarefas GROUP BY status",
+                (rs, linha) -> new StatusCount(Tarefa.StatusTarefa.valueOf(rs.getString("status")), rs.getLong("total"))));
+        for (List<StatusCount> parte : partes) {
+            for (StatusCount contagem : parte) {
+                totais.merge(contagem.getStatus(), contagem.getTotal(), Long::sum);
+            }
+        }
+        return totais.entrySet().stream()
+                .<TarefaStatusCount>map(total -> new StatusCount(total.getKey(), total.getValue()))
+                .toList();
+    }
+
+    /** Uma partição por vez: o flatMap fecha o cursor de cada uma antes de abrir a próxima. */
+    @Override
+    public Stream<Tarefa> streamAllForExport() {
+        return IntStream.range(0, shards.size()).boxed()
+                .flatMap(indice -> shards.get(indice).getJdbcTemplate()
+                        .queryForStream(SELECT_TAREFA + "ORDER BY id", TAREFA));
+    }
+
+    @Override
+    public Stream<TarefaTitulo> streamAllTitulos() {
+        return IntStream.range(0, shards.size()).boxed()
+                .flatMap(indice -> shards.get(indice).getJdbcTemplate()
+                        .queryForStream("SELECT id, titulo FROM tarefas",
+                                (rs, linha) -> new Titulo(rs.getLong("id"), rs.getString("titulo"))));
+    }
+
+    /**
+     * Intercala os cursores de todas as partições, abertos ao mesmo tempo, para
+     * manter a ordem global crescente de (dataCriacao, id).
+     */
+    @Override
+    public Stream<TarefaResponseDTO> streamAllResponses() {
+        List<Stream<Tarefa>> partes = IntStream.range(0, shards.size())
+                .mapToObj(indice -> shards.get(indice).getJdbcTemplate()
+                        .queryForStream(SELECT_TAREFA + "ORDER BY data_criacao, id", TAREFA))
+                .toList();
+
+        PriorityQueue<Cabeca<Tarefa>> cabecas = new PriorityQueue<>(
+                Math.max(1, partes.size()), (a, b) -> TAREFAS_ANTIGAS.compare(a.atual, b.atual));
+        for (Stream<Tarefa> parte : partes) {
+            Iterator<Tarefa> linhas = parte.iterator();
+            if (linhas.hasNext()) {
+                cabecas.add(new Cabeca<>(linhas));
+            }
+        }
+
+        Iterator<Tarefa> intercaladas = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !cabecas.isEmpty();
+            }
+
+            @Override
+            public Tarefa next() {
+                Cabeca<Tarefa> cabeca = cabecas.poll();
+                if (cabeca == null) {
+                    throw new NoSuchElementException();
+                }
+                Tarefa tarefa = cabeca.atual;
+                if (cabeca.avancar()) {
+                    cabecas.add(cabeca);
+                }
+                return tarefa;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(intercaladas, Spliterator.ORDERED), false)
+                .map(TarefaResponseDTO::fromEntity)
+                .onClose(() -> partes.forEach(Stream::close));
+    }
+
+    @Override
+    public List<Tuple> findFieldsPage(List<String> campos, LocalDateTime dataCriacao, Long id, int limit) {
+        MapSqlParameterSource parametros = new MapSqlParameterSource()
+                .addValue("dataCriacao", dataCriacao)
+                .addValue("id", id);
+        String where = dataCriacao == null
+                ? ""
+                : "WHERE data_criacao < :dataCriacao OR (data_criacao = :dataCriacao AND id < :id) ";
+        return tuplas(campos, where, parametros, limit);
+    }
+
+    @Override
+    public List<Tuple> findFieldsByStatus(List<String> campos, Tarefa.StatusTarefa status) {
+        return tuplas(campos, "WHERE status = :status ", new MapSqlParameterSource("status", status.name()), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Tuple> findFieldsByTituloContaining(List<String> campos, String titulo) {
+        return tuplas(campos, "WHERE titulo LIKE :padrao ", new MapSqlParameterSource("padrao", "%" + titulo + "%"), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Tuple> findFieldsByIdIn(List<String> campos, Collection<Long> ids) {
+        Set<String> selecao = selecao(campos);
+        String sql = selectCampos(selecao) + "WHERE id IN (:ids) " + RECENTES;
+        Map<Integer, List<Long>> grupos = porShard(ids);
+
+        List<List<Tuple>> partes = shards.scatter(grupos.keySet(), (indice, jdbc) ->
+                jdbc.query(sql, Map.of("ids", grupos.get(indice)), (rs, linha) -> tupla(rs, selecao)));
+        return merge(partes, TUPLAS_RECENTES, Integer.MAX_VALUE);
+    }
+
+    private void prepararNova(Tarefa tarefa, LocalDateTime agora) {
+        tarefa.setId(idAllocator.next());
+        tarefa.setDataCriacao(agora);
+        tarefa.setDataAtualizacao(agora);
+    }
+
+    private static MapSqlParameterSource parametros(Tarefa tarefa) {
+        return new MapSqlParameterSource()
+                .addValue("id", tarefa.getId())
+                .addValue("titulo", tarefa.getTitulo())
+                .addValue("descricao", tarefa.getDescricao())
+                .addValue("status", tarefa.getStatus().name())
+                .addValue("dataCriacao", tarefa.getDataCriacao())
+                .addValue("dataAtualizacao", tarefa.getDataAtualizacao())
+                .addValue("versaoAlteracao", tarefa.getVersaoAlteracao());
+    }
+
+    /** Cada partição devolve no máximo {@code limite} linhas já ordenadas; a intercalação corta no mesmo limite. */
+    private List<Tarefa> recentes(String where, MapSqlParameterSource parametros, int limite) {
+        String sql = SELECT_TAREFA + where + RECENTES + (limite < Integer.MAX_VALUE ? " LIMIT :limite" : "");
+        parametros.addValue("limite", limite);
+        List<List<Tarefa>> partes = shards.scatter(jdbc -> jdbc.query(sql, parametros, TAREFA));
+        return merge(partes, TAREFAS_RECENTES, limite);
+    }
+
+    private List<Tuple> tuplas(List<String> campos, String where, MapSqlParameterSource parametros, int limite) {
+        Set<String> selecao = selecao(campos);
+        String sql = selectCampos(selecao) + where + RECENTES + (limite < Integer.MAX_VALUE ? " LIMIT :limite" : "");
+        parametros.addValue("limite", limite);
+        List<List<Tuple>> partes = shards.scatter(jdbc -> jdbc.query(sql, parametros, (rs, linha) -> tupla(rs, selecao)));
+        return merge(partes, TUPLAS_RECENTES, limite);
+    }
+
+    /** Campos pedidos mais os da ordenação, necessários para intercalar as partições. */
+    private static Set<String> selecao(List<String> campos) {
+        Set<String> selecao = new LinkedHashSet<>(campos);
+        selecao.addAll(CAMPOS_DE_ORDENACAO);
+        for (String campo : selecao) {
+            if (!COLUNAS.containsKey(campo)) {
+                throw new IllegalArgumentException("Unknown task field: " + campo);
+            }
+        }
+        return selecao;
+    }
+
+    private static String selectCampos(Set<String> selecao) {
+        return "SELECT " + String.join(", ", selecao.stream().map(COLUNAS::get).toList()) + " FROM tarefas ";
+    }
+
+    private static Tuple tupla(ResultSet rs, Set<String> selecao) throws SQLException {
+        LinkedHashMap<String, Object> valores = new LinkedHashMap<>();
+        for (String campo : selecao) {
+            String coluna = COLUNAS.get(campo);
+            Object valor = switch (campo) {
+                case "id", "versaoAlteracao" -> rs.getObject(coluna, Long.class);
+                case "dataCriacao", "dataAtualizacao" -> rs.getObject(coluna, LocalDateTime.class);
+                case "status" -> Tarefa.StatusTarefa.valueOf(rs.getString(coluna));
+                default -> rs.getString(coluna);
+            };
+            valores.put(campo, valor);
+        }
+        return new ShardTuple(valores);
+    }
+
+    private Map<Integer, List<Long>> porShard(Iterable<? extends Long> ids) {
+        Map<Integer, List<Long>> grupos = new TreeMap<>();
+        for (Long id : ids) {
+            grupos.computeIfAbsent(shards.indexFor(id), indice -> new ArrayList<>()).add(id);
+        }
+        return grupos;
+    }
+
+    private static int maximo(Limit limit) {
+        return limit.isLimited() ? limit.max() : Integer.MAX_VALUE;
+    }
+
+    private static List<TarefaResponseDTO> respostas(List<Tarefa> tarefas) {
+        return tarefas.stream().map(TarefaResponseDTO::fromEntity).toList();
+    }
+
+    /** Intercalação k-way de listas já ordenadas (uma por partição), até {@code limite} itens. */
+    static <T> List<T> merge(List<List<T>> partes, Comparator<? super T> ordem, int limite) {
+        PriorityQueue<Cabeca<T>> cabecas = new PriorityQueue<>(
+                Math.max(1, partes.size()), (a, b) -> ordem.compare(a.atual, b.atual));
+        for (List<T> parte : partes) {
+            if (!parte.isEmpty()) {
+                cabecas.add(new Cabeca<>(parte.iterator()));
+            }
+        }
+
+        List<T> resultado = new ArrayList<>();
+        while (!cabecas.isEmpty() && resultado.size() < limite) {
+            Cabeca<T> cabeca = cabecas.poll();
+            resultado.add(cabeca.atual);
+            if (cabeca.avancar()) {
+                cabecas.add(cabeca);
+            }
+        }
+        return resultado;
+    }
+
+    private static final class Cabeca<T> {
+
+        private final Iterator<T> resto;
+        private T atual;
+
+        private Cabeca(Iterator<T> resto) {
+            this.resto = resto;
+            this.atual = resto.next();
+        }
+
+        private boolean avancar() {
+            if (!resto.hasNext()) {
+                return false;
+            }
+            atual = resto.next();
+            return true;
+        }
+    }
+
+    private record StatusCount(Tarefa.StatusTarefa status, Long total) implements TarefaStatusCount {
+
+        @Override
+        public Tarefa.StatusTarefa getStatus() {
+            return status;
+        }
+
+        @Override
+        public Long getTotal() {
+            return total;
+        }
+    }
+
+    private record Titulo(Long id, String titulo) implements TarefaTitulo {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitulo() {
+            return titulo;
+        }
+    }
+}
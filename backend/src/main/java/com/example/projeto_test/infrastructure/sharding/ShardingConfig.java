@@ -0,0 +1,29 @@
+package com.example.projeto_test.infrastructure.sharding;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Com {@code tarefas.sharding.enabled=true}, o {@link ShardedTarefaRepository}
+ * substitui o repositório JPA em todas as injeções de {@code TarefaRepository}.
+ * Os DataSources das partições não viram beans, para não desligar a
+ * autoconfiguração do DataSource principal (tombstones e sequence de ids).
+ */
+@Configuration
+@ConditionalOnProperty(name = "tarefas.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public TarefaShards tarefaShards(ShardingProperties properties) {
+        return TarefaShards.create(properties);
+    }
+
+    @Bean
+    @Primary
+    public ShardedTarefaRepository shardedTarefaRepository(TarefaShards tarefaShards, JdbcTemplate jdbcTemplate) {
+        return new ShardedTarefaRepository(tarefaShards, new TarefaIdAllocator(jdbcTemplate));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.projeto_test.infrastructure.sharding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Particionamento das tarefas em vários bancos H2 ({@code tarefas.sharding.*}).
+ * O {@code url-template} recebe o índice da partição em {@code %d}.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "tarefas.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    private int partitions = 4;
+
+    private String urlTemplate = "jdbc:h2:mem:tarefas_shard_%d;DB_CLOSE_DELAY=-1";
+
+    private String username = "sa";
+
+    private String password = "";
+
+    /** Conexões por partição. */
+    private int poolSize = 4;
+}
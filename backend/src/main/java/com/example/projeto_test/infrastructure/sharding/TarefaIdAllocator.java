@@ -0,0 +1,31 @@
+package com.example.projeto_test.infrastructure.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Ids globais para as partições: a partição de uma tarefa nova depende do id,
+ * então ele é reservado antes do INSERT. Usa a sequence {@code tarefas_seq} do
+ * banco principal em blocos do tamanho do incremento (o mesmo allocationSize
+ * da entidade), sem ida ao banco por tarefa.
+ */
+public class TarefaIdAllocator {
+
+    static final int BLOCO = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private long proximo;
+    private long limite;
+
+    public TarefaIdAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public synchronized long next() {
+        if (proximo >= limite) {
+            Long inicio = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR tarefas_seq", Long.class);
+            proximo = inicio;
+            limite = inicio + BLOCO;
+        }
+        return proximo++;
+    }
+}
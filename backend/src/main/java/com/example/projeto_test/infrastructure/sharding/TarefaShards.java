@@ -0,0 +1,209 @@
+package com.example.projeto_test.infrastructure.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * As partições (um banco H2 cada, com o esquema do Flyway) e o roteamento por
+ * hash do id. Consultas em várias partições rodam em paralelo, uma virtual
+ * thread por partição.
+ *
+ * <p>Numa transação de escrita do Spring, a primeira vez que uma partição é usada
+ * ela abre sua própria transação JDBC ({@link DataSourceTransactionManager}),
+ * presa à transação principal: confirma logo depois do commit dela (antes dos
+ * listeners AFTER_COMMIT) e desfaz em qualquer rollback. É 1PC de melhor esforço:
+ * só uma falha entre o commit principal e o das partições deixa o resultado
+ * parcial. Como a conexão da transação fica presa à thread, nesse caso as
+ * consultas em várias partições rodam em sequência na thread do chamador.
+ */
+@Slf4j
+public class TarefaShards implements AutoCloseable {
+
+    private final List<HikariDataSource> dataSources;
+    private final List<NamedParameterJdbcTemplate> shards;
+    private final List<DataSourceTransactionManager> transacoes;
+    private final ExecutorService consultas = Executors.newVirtualThreadPerTaskExecutor();
+
+    private TarefaShards(List<HikariDataSource> dataSources) {
+        this.dataSources = dataSources;
+        this.shards = dataSources.stream().map(NamedParameterJdbcTemplate::new).toList();
+        this.transacoes = dataSources.stream().map(dataSource -> {
+            DataSourceTransactionManager transacao = new DataSourceTransactionManager(dataSource);
+            // As sincronizações são as da transação principal
+            transacao.setTransactionSynchronization(AbstractPlatformTransactionManager.SYNCHRONIZATION_NEVER);
+            return transacao;
+        }).toList();
+    }
+
+    public static TarefaShards create(ShardingProperties properties) {
+        if (properties.getPartitions() < 1) {
+            throw new IllegalStateException("tarefas.sharding.partitions must be at least 1");
+        }
+
+        List<HikariDataSource> dataSources = new ArrayList<>(properties.getPartitions());
+        for (int indice = 0; indice < properties.getPartitions(); indice++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(String.format(properties.getUrlTemplate(), indice));
+            dataSource.setUsername(properties.getUsername());
+            dataSource.setPassword(properties.getPassword());
+            dataSource.setMaximumPoolSize(properties.getPoolSize());
+            dataSource.setPoolName("tarefas-shard-" + indice);
+            dataSources.add(dataSource);
+
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("classpath:db/migration")
+                    .load()
+                    .migrate();
+        }
+
+        log.info("Task sharding enabled - {} partitions", dataSources.size());
+        return new TarefaShards(dataSources);
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    public int indexFor(long id) {
+        return (int) Math.floorMod(mix(id), (long) shards.size());
+    }
+
+    public NamedParameterJdbcTemplate forId(long id) {
+        return get(indexFor(id));
+    }
+
+    /** Template da partição, já participando da transação de escrita corrente, se houver. */
+    public NamedParameterJdbcTemplate get(int indice) {
+        participar(indice);
+        return shards.get(indice);
+    }
+
+    /** Executa a consulta em todas as partições; resultados na ordem dos índices. */
+    public <T> List<T> scatter(Function<NamedParameterJdbcTemplate, T> consulta) {
+        return scatter(IntStream.range(0, shards.size()).boxed().toList(), (indice, jdbc) -> consulta.apply(jdbc));
+    }
+
+    public <T> List<T> scatter(Collection<Integer> indices, BiFunction<Integer, NamedParameterJdbcTemplate, T> consulta) {
+        if (indices.size() == 1 || emTransacaoDeEscrita()) {
+            List<T> resultados = new ArrayList<>(indices.size());
+            for (Integer indice : indices) {
+                resultados.add(consulta.apply(indice, get(indice)));
+            }
+            return resultados;
+        }
+
+        List<CompletableFuture<T>> pendentes = indices.stream()
+                .map(indice -> CompletableFuture.supplyAsync(() -> consulta.apply(indice, shards.get(indice)), consultas))
+                .toList();
+        try {
+            return pendentes.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw ex;
+        }
+    }
+
+    private static boolean emTransacaoDeEscrita() {
+        return TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void participar(int indice) {
+        if (!emTransacaoDeEscrita() || TransactionSynchronizationManager.hasResource(dataSources.get(indice))) {
+            return;
+        }
+        DataSourceTransactionManager transacao = transacoes.get(indice);
+        TransactionStatus status = transacao.getTransaction(TransactionDefinition.withDefaults());
+        TransactionSynchronizationManager.registerSynchronization(new TransacaoDaParticao(indice, transacao, status));
+    }
+
+    @Override
+    public void close() {
+        consultas.close();
+        dataSources.forEach(HikariDataSource::close);
+    }
+
+    /** Finalizador do MurmurHash3 (fmix64), para não depender do padrão dos ids da sequence. */
+    static long mix(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /** Liga a transação de uma partição ao desfecho da transação principal. */
+    private final class TransacaoDaParticao implements TransactionSynchronization {
+
+        private final int indice;
+        private final DataSourceTransactionManager transacao;
+        private final TransactionStatus status;
+        private Object suspensa;
+
+        private TransacaoDaParticao(int indice, DataSourceTransactionManager transacao, TransactionStatus status) {
+            this.indice = indice;
+            this.transacao = transacao;
+            this.status = status;
+        }
+
+        /** Antes dos listeners AFTER_COMMIT, que já leem das partições. */
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void suspend() {
+            suspensa = TransactionSynchronizationManager.unbindResource(dataSources.get(indice));
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(dataSources.get(indice), suspensa);
+            suspensa = null;
+        }
+
+        @Override
+        public void afterCommit() {
+            try {
+                transacao.commit(status);
+            } catch (RuntimeException ex) {
+                log.error("Shard {} failed to commit after the main transaction committed", indice, ex);
+                throw ex;
+            }
+        }
+
+        @Override
+        public void afterCompletion(int estado) {
+            if (!status.isCompleted()) {
+                transacao.rollback(status);
+            }
+        }
+    }
+}
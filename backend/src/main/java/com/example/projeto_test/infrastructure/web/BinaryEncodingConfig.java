@@ -0,0 +1,70 @@
+package com.example.projeto_test.infrastructure.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Codificações binárias escolhidas pelo {@code Accept}: CBOR ({@code application/cbor})
+ * e Smile ({@code application/x-jackson-smile}). O Spring MVC já registra conversores
+ * CBOR/Smile padrão quando os módulos estão no classpath, e vence o primeiro que
+ * aceita o tipo: os nossos tomam o lugar deles, na mesma posição, depois do JSON,
+ * então {@code Accept: *}{@code /*} continua recebendo JSON.
+ */
+@Configuration
+public class BinaryEncodingConfig implements WebMvcConfigurer {
+
+    public static final String APPLICATION_CBOR_SEQ_VALUE = "application/cbor-seq";
+    public static final MediaType APPLICATION_CBOR_SEQ = MediaType.parseMediaType(APPLICATION_CBOR_SEQ_VALUE);
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    private final ObjectMapper objectMapper;
+
+    public BinaryEncodingConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Copia a configuração do ObjectMapper do Spring para outro formato. Datas
+     * saem como arrays de inteiros, que em binário ocupam bem menos que o texto ISO.
+     */
+    public static ObjectMapper binaryMapper(ObjectMapper base, JsonFactory factory) {
+        return base.copyWith(factory).enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        replace(converters, MappingJackson2CborHttpMessageConverter.class,
+                new MappingJackson2CborHttpMessageConverter(binaryMapper(objectMapper, new CBORFactory())));
+        replace(converters, MappingJackson2SmileHttpMessageConverter.class,
+                new MappingJackson2SmileHttpMessageConverter(binaryMapper(objectMapper, new SmileFactory())));
+    }
+
+    private static void replace(List<HttpMessageConverter<?>> converters,
+                                Class<?> tipo,
+                                HttpMessageConverter<?> conversor) {
+        int posicao = -1;
+        for (int i = converters.size() - 1; i >= 0; i--) {
+            if (tipo.isInstance(converters.get(i))) {
+                converters.remove(i);
+                posicao = i;
+            }
+        }
+        if (posicao < 0) {
+            converters.add(conversor);
+        } else {
+            converters.add(posicao, conversor);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+-- Esquema usado pelo perfil persistent (H2 em arquivo). O perfil padrão continua
+-- gerando o esquema pelo Hibernate (create-drop).
+
+CREATE SEQUENCE tarefas_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tarefas (
+    id               BIGINT        NOT NULL PRIMARY KEY,
+    titulo           VARCHAR(255)  NOT NULL,
+    descricao        VARCHAR(1000),
+    status           VARCHAR(20)   NOT NULL,
+    data_criacao     TIMESTAMP(6)  NOT NULL,
+    data_atualizacao TIMESTAMP(6),
+    CONSTRAINT ck_tarefas_status CHECK (status IN ('PENDENTE', 'CONCLUIDA', 'CANCELADA'))
+);
+
+-- findByStatus/countGroupByStatus usam o prefixo (status); listagens por status
+-- ordenadas por data usam o índice inteiro
+CREATE INDEX idx_tarefas_status_data_criacao ON tarefas (status, data_criacao);
+
+-- Paginação por cursor (data_criacao DESC, id DESC) e ordenação por data_criacao
+CREATE INDEX idx_tarefas_data_criacao_id ON tarefas (data_criacao DESC, id DESC);
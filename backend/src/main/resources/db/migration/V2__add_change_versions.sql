@@ -0,0 +1,17 @@
+-- Versão de alteração para a sincronização delta (GET /tasks/changes). As linhas
+-- existentes recebem o próprio id: valores únicos e positivos, e o alocador
+-- continua a partir do maior deles.
+
+ALTER TABLE tarefas ADD COLUMN versao_alteracao BIGINT;
+UPDATE tarefas SET versao_alteracao = id;
+ALTER TABLE tarefas ALTER COLUMN versao_alteracao SET NOT NULL;
+
+CREATE INDEX idx_tarefas_versao_alteracao ON tarefas (versao_alteracao);
+
+CREATE TABLE tarefas_tombstones (
+    tarefa_id        BIGINT       NOT NULL PRIMARY KEY,
+    versao_alteracao BIGINT       NOT NULL,
+    data_remocao     TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_tombstones_versao_alteracao ON tarefas_tombstones (versao_alteracao);
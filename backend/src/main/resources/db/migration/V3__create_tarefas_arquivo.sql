@@ -0,0 +1,18 @@
+-- Tarefas finalizadas movidas de tarefas pelo arquivamento (TarefaArchiver).
+-- Mesmas colunas, mais a data em que a linha foi arquivada.
+
+CREATE TABLE tarefas_arquivo (
+    id                BIGINT        NOT NULL PRIMARY KEY,
+    titulo            VARCHAR(255)  NOT NULL,
+    descricao         VARCHAR(1000),
+    status            VARCHAR(20)   NOT NULL,
+    data_criacao      TIMESTAMP(6)  NOT NULL,
+    data_atualizacao  TIMESTAMP(6),
+    versao_alteracao  BIGINT        NOT NULL,
+    data_arquivamento TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT ck_arquivo_status CHECK (status IN ('PENDENTE', 'CONCLUIDA', 'CANCELADA'))
+);
+
+-- Leituras com historico=true: por status e paginação por cursor
+CREATE INDEX idx_arquivo_status_data_criacao ON tarefas_arquivo (status, data_criacao);
+CREATE INDEX idx_arquivo_data_criacao_id ON tarefas_arquivo (data_criacao DESC, id DESC);
@@ -0,0 +1,70 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.infrastructure.entitys.TarefaTombstone;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaArquivoRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TarefaArchiver - Testes Unitários")
+class TarefaArchiverTest {
+
+    @Mock
+    private TarefaArquivoRepository arquivoRepository;
+
+    @Mock
+    private TarefaTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private TarefaVersionAllocator versionAllocator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TarefaArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new TarefaArchiver(arquivoRepository, tombstoneRepository, versionAllocator,
+                transactionTemplate, eventPublisher, Duration.ofDays(30), 500);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Deve deixar tombstone versionado e publicar evento para cada tarefa arquivada")
+    @SuppressWarnings("unchecked")
+    void deveDeixarTombstoneParaTarefasArquivadas() {
+        when(arquivoRepository.lockArchivableIds(any(), eq(500))).thenReturn(List.of(1L, 2L));
+        when(versionAllocator.allocate()).thenReturn(41L, 42L);
+
+        archiver.archive();
+
+        ArgumentCaptor<List<TarefaTombstone>> tombstones = ArgumentCaptor.forClass(List.class);
+        verify(tombstoneRepository).saveAll(tombstones.capture());
+        assertThat(tombstones.getValue())
+                .extracting(TarefaTombstone::getTarefaId, TarefaTombstone::getVersaoAlteracao)
+                .containsExactly(tuple(1L, 41L), tuple(2L, 42L));
+        verify(arquivoRepository).deleteFromTarefas(List.of(1L, 2L));
+        verify(eventPublisher).publishEvent(any(TarefasArquivadasEvent.class));
+    }
+}
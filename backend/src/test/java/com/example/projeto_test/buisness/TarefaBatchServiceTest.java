@@ -0,0 +1,68 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaBatchItemResultDTO;
+import com.example.projeto_test.dto.TarefaBatchItemResultDTO.ItemStatus;
+import com.example.projeto_test.dto.TarefaBatchResultDTO;
+import com.example.projeto_test.dto.TarefaDTO;
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TarefaBatchService - Testes Unitários")
+class TarefaBatchServiceTest {
+
+    @Mock
+    private TarefaService tarefaService;
+
+    private TarefaBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new TarefaBatchService(tarefaService, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), 2);
+        AtomicLong ids = new AtomicLong();
+        when(tarefaService.createTasks(anyList())).thenAnswer(inv -> {
+            List<TarefaDTO> tarefas = inv.getArgument(0);
+            return tarefas.stream()
+                    .map(t -> TarefaResponseDTO.builder().id(ids.incrementAndGet()).titulo(t.getTitulo()).build())
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("Deve devolver os itens já gravados quando o JSON quebra no meio")
+    void deveDevolverItensGravadosQuandoJsonQuebra() throws Exception {
+        String corpo = """
+                [{"titulo":"Tarefa A","status":"PENDENTE"},
+                 {"titulo":"Tarefa B","status":"PENDENTE"},
+                 {"titulo":"Tarefa C","status":"PENDENTE"},
+                 {"titulo":"Tarefa D",""";
+
+        TarefaBatchResultDTO resultado = batchService.importTasks(
+                new ByteArrayInputStream(corpo.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(resultado.getCreated()).isEqualTo(3);
+        assertThat(resultado.getItems()).extracting(TarefaBatchItemResultDTO::getId)
+                .containsExactly(1L, 2L, 3L, null);
+        TarefaBatchItemResultDTO ultimo = resultado.getItems().get(3);
+        assertThat(ultimo.getIndex()).isEqualTo(3);
+        assertThat(ultimo.getStatus()).isEqualTo(ItemStatus.MALFORMED);
+        verify(tarefaService, times(2)).createTasks(anyList());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaDTO;
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.exception.BusinessRuleException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TarefaGroupCommitWriter - Testes Unitários")
+class TarefaGroupCommitWriterTest {
+
+    @Mock
+    private TarefaService tarefaService;
+
+    private TarefaGroupCommitWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar criações próximas em um único lote")
+    void deveAgruparCriacoesEmUmLote() throws Exception {
+        // Prazo longo: o lote só fecha ao atingir o tamanho máximo
+        writer = new TarefaGroupCommitWriter(tarefaService, 100, 3, TimeUnit.SECONDS.toMicros(5), 5_000);
+        when(tarefaService.createTasks(anyList())).thenAnswer(inv -> {
+            List<TarefaDTO> tarefas = inv.getArgument(0);
+            return tarefas.stream().map(t -> resposta(t.getTitulo())).toList();
+        });
+        writer.start();
+
+        CompletableFuture<TarefaResponseDTO> a = writer.submit(tarefa("A"));
+        CompletableFuture<TarefaResponseDTO> b = writer.submit(tarefa("B"));
+        CompletableFuture<TarefaResponseDTO> c = writer.submit(tarefa("C"));
+
+        assertThat(a.get(5, TimeUnit.SECONDS).getTitulo()).isEqualTo("A");
+        assertThat(b.get(5, TimeUnit.SECONDS).getTitulo()).isEqualTo("B");
+        assertThat(c.get(5, TimeUnit.SECONDS).getTitulo()).isEqualTo("C");
+        verify(tarefaService, times(1)).createTasks(anyList());
+        verify(tarefaService, never()).createTask(any());
+    }
+
+    @Test
+    @DisplayName("Deve refazer item a item quando o lote falha")
+    void deveRefazerIndividualmenteQuandoLoteFalha() throws Exception {
+        writer = new TarefaGroupCommitWriter(tarefaService, 100, 2, TimeUnit.SECONDS.toMicros(5), 5_000);
+        when(tarefaService.createTasks(anyList())).thenThrow(new IllegalStateException("lote inválido"));
+        when(tarefaService.createTask(argThat(t -> t != null && "ok".equals(t.getTitulo()))))
+                .thenReturn(resposta("ok"));
+        when(tarefaService.createTask(argThat(t -> t != null && "ruim".equals(t.getTitulo()))))
+                .thenThrow(new BusinessRuleException("TITLE_INVALID", "ruim", "invalid"));
+        writer.start();
+
+        CompletableFuture<TarefaResponseDTO> ok = writer.submit(tarefa("ok"));
+        CompletableFuture<TarefaResponseDTO> ruim = writer.submit(tarefa("ruim"));
+
+        assertThat(ok.get(5, TimeUnit.SECONDS).getTitulo()).isEqualTo("ok");
+        assertThatThrownBy(() -> ruim.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(BusinessRuleException.class);
+    }
+
+    @Test
+    @DisplayName("Deve expirar a espera quando o writer trava e descartar itens expirados na fila")
+    void deveExpirarQuandoWriterTrava() throws Exception {
+        writer = new TarefaGroupCommitWriter(tarefaService, 100, 1, 0, 100);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(tarefaService.createTasks(anyList())).thenAnswer(inv -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            List<TarefaDTO> tarefas = inv.getArgument(0);
+            return tarefas.stream().map(t -> resposta(t.getTitulo())).toList();
+        });
+        writer.start();
+
+        CompletableFuture<TarefaResponseDTO> travada = writer.submit(tarefa("A"));
+        CompletableFuture<TarefaResponseDTO> naFila = writer.submit(tarefa("B"));
+
+        assertThatThrownBy(() -> travada.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(TimeoutException.class);
+        assertThatThrownBy(() -> naFila.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(TimeoutException.class);
+        liberar.countDown();
+        verify(tarefaService, after(300).times(1)).createTasks(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve recusar criação quando o writer não está em execução")
+    void deveRecusarQuandoParado() {
+        writer = null;
+        TarefaGroupCommitWriter parado = new TarefaGroupCommitWriter(tarefaService, 1, 1, 500, 5_000);
+
+        assertThatThrownBy(() -> parado.submit(tarefa("A")))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static TarefaDTO tarefa(String titulo) {
+        return TarefaDTO.builder().titulo(titulo).build();
+    }
+
+    private static TarefaResponseDTO resposta(String titulo) {
+        return TarefaResponseDTO.builder().titulo(titulo).build();
+    }
+}
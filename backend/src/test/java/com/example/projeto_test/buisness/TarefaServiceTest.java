@@ -1,21 +1,28 @@
 package com.example.projeto_test.buisness;
 
 import com.example.projeto_test.dto.TarefaDTO;
+import com.example.projeto_test.dto.TarefaPageDTO;
 import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.exception.BusinessRuleException;
 import com.example.projeto_test.exception.TarefaNotFoundException;
 import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.TarefaTombstone;
 import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaTombstoneRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +37,24 @@ class TarefaServiceTest {
     @Mock
     private TarefaRepository tarefaRepository;
 
+    @Mock
+    private TarefaTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private TarefaVersionAllocator versionAllocator;
+
+    @Mock
+    private TarefaStatisticsService tarefaStatisticsService;
+
+    @Mock
+    private TituloTrigramIndex tituloTrigramIndex;
+
+    @Mock
+    private TarefaReadModel tarefaReadModel;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TarefaService tarefaService;
 
@@ -51,6 +76,16 @@ class TarefaServiceTest {
                 .descricao("Implementar testes com JUnit e Mockito")
                 .status(Tarefa.StatusTarefa.PENDENTE)
                 .dataCriacao(LocalDateTime.now())
+                .versaoAlteracao(1L)
+                .build();
+    }
+
+    private TarefaResponseDTO resposta(Long id, String titulo) {
+        return TarefaResponseDTO.builder()
+                .id(id)
+                .titulo(titulo)
+                .status(Tarefa.StatusTarefa.PENDENTE)
+                .dataCriacao(LocalDateTime.now())
                 .build();
     }
 
@@ -61,9 +96,10 @@ class TarefaServiceTest {
         @Test
         @DisplayName("Deve criar tarefa com sucesso")
         void deveCriarTarefaComSucesso() {
+            when(versionAllocator.allocate()).thenReturn(7L);
             when(tarefaRepository.save(any(Tarefa.class))).thenReturn(tarefa);
 
-            TarefaResponseDTO resultado = tarefaService.criarTarefa(tarefaDTO);
+            TarefaResponseDTO resultado = tarefaService.createTask(tarefaDTO);
 
             assertThat(resultado).isNotNull();
             assertThat(resultado.getId()).isEqualTo(TAREFA_ID);
@@ -72,7 +108,10 @@ class TarefaServiceTest {
             assertThat(resultado.getStatus()).isEqualTo(tarefaDTO.getStatus());
             assertThat(resultado.getDataCriacao()).isNotNull();
 
-            verify(tarefaRepository, times(1)).save(any(Tarefa.class));
+            ArgumentCaptor<Tarefa> salva = ArgumentCaptor.forClass(Tarefa.class);
+            verify(tarefaRepository, times(1)).save(salva.capture());
+            assertThat(salva.getValue().getVersaoAlteracao()).isEqualTo(7L);
+            verify(eventPublisher).publishEvent(any(TarefaChangedEvent.class));
         }
 
         @Test
@@ -82,9 +121,8 @@ class TarefaServiceTest {
             tarefa.setDescricao(null);
             when(tarefaRepository.save(any(Tarefa.class))).thenReturn(tarefa);
 
-            TarefaResponseDTO resultado = tarefaService.criarTarefa(tarefaDTO);
+            TarefaResponseDTO resultado = tarefaService.createTask(tarefaDTO);
 
-        
             assertThat(resultado).isNotNull();
             assertThat(resultado.getDescricao()).isNull();
             verify(tarefaRepository, times(1)).save(any(Tarefa.class));
@@ -96,35 +134,36 @@ class TarefaServiceTest {
     class ListarTarefasTests {
 
         @Test
-        @DisplayName("Deve retornar lista de tarefas")
-        void deveRetornarListaDeTarefas() {
-            Tarefa tarefa2 = Tarefa.builder()
-                    .id(2L)
-                    .titulo("Segunda Tarefa")
-                    .status(Tarefa.StatusTarefa.CONCLUIDA)
-                    .dataCriacao(LocalDateTime.now())
-                    .build();
-
-            List<Tarefa> tarefas = Arrays.asList(tarefa, tarefa2);
-            when(tarefaRepository.findAll()).thenReturn(tarefas);
+        @DisplayName("Deve retornar a primeira página sem cursor quando não há mais tarefas")
+        void deveRetornarPrimeiraPagina() {
+            when(tarefaRepository.findFirstPage(Limit.of(51)))
+                    .thenReturn(List.of(resposta(2L, "Segunda Tarefa"), resposta(1L, "Teste Unitário")));
 
-            List<TarefaResponseDTO> resultado = tarefaService.listarTarefas();
+            TarefaPageDTO<TarefaResponseDTO> pagina = tarefaService.getTasksPage(null, 50);
 
-            assertThat(resultado).hasSize(2);
-            assertThat(resultado.get(0).getId()).isEqualTo(1L);
-            assertThat(resultado.get(1).getId()).isEqualTo(2L);
-            verify(tarefaRepository, times(1)).findAll();
+            assertThat(pagina.getItems()).extracting(TarefaResponseDTO::getId).containsExactly(2L, 1L);
+            assertThat(pagina.hasNext()).isFalse();
         }
 
         @Test
-        @DisplayName("Deve retornar lista vazia quando não há tarefas")
-        void deveRetornarListaVaziaQuandoNaoHaTarefas() {
-            when(tarefaRepository.findAll()).thenReturn(Arrays.asList());
+        @DisplayName("Deve devolver cursor quando existe próxima página")
+        void deveDevolverCursorQuandoHaProximaPagina() {
+            when(tarefaRepository.findFirstPage(Limit.of(2)))
+                    .thenReturn(List.of(resposta(2L, "Segunda Tarefa"), resposta(1L, "Teste Unitário")));
+
+            TarefaPageDTO<TarefaResponseDTO> pagina = tarefaService.getTasksPage(null, 1);
+
+            assertThat(pagina.getItems()).extracting(TarefaResponseDTO::getId).containsExactly(2L);
+            assertThat(pagina.hasNext()).isTrue();
+        }
 
-            List<TarefaResponseDTO> resultado = tarefaService.listarTarefas();
+        @Test
+        @DisplayName("Deve rejeitar limite fora do intervalo")
+        void deveRejeitarLimiteInvalido() {
+            assertThatThrownBy(() -> tarefaService.getTasksPage(null, 0))
+                    .isInstanceOf(BusinessRuleException.class);
 
-            assertThat(resultado).isEmpty();
-            verify(tarefaRepository, times(1)).findAll();
+            verifyNoInteractions(tarefaRepository);
         }
     }
 
@@ -135,26 +174,27 @@ class TarefaServiceTest {
         @Test
         @DisplayName("Deve buscar tarefa por ID com sucesso")
         void deveBuscarTarefaPorIdComSucesso() {
-            when(tarefaRepository.findById(TAREFA_ID)).thenReturn(Optional.of(tarefa));
+            when(tarefaRepository.findResponseById(TAREFA_ID))
+                    .thenReturn(Optional.of(resposta(TAREFA_ID, "Teste Unitário")));
 
-            TarefaResponseDTO resultado = tarefaService.buscarTarefaPorId(TAREFA_ID);
+            TarefaResponseDTO resultado = tarefaService.getTaskById(TAREFA_ID);
 
             assertThat(resultado).isNotNull();
             assertThat(resultado.getId()).isEqualTo(TAREFA_ID);
-            assertThat(resultado.getTitulo()).isEqualTo(tarefa.getTitulo());
-            verify(tarefaRepository, times(1)).findById(TAREFA_ID);
+            assertThat(resultado.getTitulo()).isEqualTo("Teste Unitário");
+            verify(tarefaRepository, times(1)).findResponseById(TAREFA_ID);
         }
 
         @Test
         @DisplayName("Deve lançar exceção quando tarefa não for encontrada")
         void deveLancarExcecaoQuandoTarefaNaoForEncontrada() {
-            when(tarefaRepository.findById(TAREFA_ID)).thenReturn(Optional.empty());
+            when(tarefaRepository.findResponseById(TAREFA_ID)).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> tarefaService.buscarTarefaPorId(TAREFA_ID))
+            assertThatThrownBy(() -> tarefaService.getTaskById(TAREFA_ID))
                     .isInstanceOf(TarefaNotFoundException.class)
-                    .hasMessage("Tarefa com ID 1 não foi encontrada");
+                    .hasMessage("Task with ID 1 was not found");
 
-            verify(tarefaRepository, times(1)).findById(TAREFA_ID);
+            verify(tarefaRepository, times(1)).findResponseById(TAREFA_ID);
         }
     }
 
@@ -171,28 +211,21 @@ class TarefaServiceTest {
                     .status(Tarefa.StatusTarefa.CONCLUIDA)
                     .build();
 
-            Tarefa tarefaAtualizada = Tarefa.builder()
-                    .id(TAREFA_ID)
-                    .titulo("Título Atualizado")
-                    .descricao("Descrição Atualizada")
-                    .status(Tarefa.StatusTarefa.CONCLUIDA)
-                    .dataCriacao(LocalDateTime.now().minusDays(1))
-                    .dataAtualizacao(LocalDateTime.now())
-                    .build();
-
             when(tarefaRepository.findById(TAREFA_ID)).thenReturn(Optional.of(tarefa));
-            when(tarefaRepository.save(any(Tarefa.class))).thenReturn(tarefaAtualizada);
+            when(tarefaRepository.save(any(Tarefa.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
 
-            TarefaResponseDTO resultado = tarefaService.atualizarTarefa(TAREFA_ID, tarefaAtualizadaDTO);
+            TarefaResponseDTO resultado = tarefaService.updateTask(TAREFA_ID, tarefaAtualizadaDTO);
 
             assertThat(resultado).isNotNull();
             assertThat(resultado.getTitulo()).isEqualTo("Título Atualizado");
             assertThat(resultado.getDescricao()).isEqualTo("Descrição Atualizada");
             assertThat(resultado.getStatus()).isEqualTo(Tarefa.StatusTarefa.CONCLUIDA);
-            assertThat(resultado.getDataAtualizacao()).isNotNull();
 
-            verify(tarefaRepository, times(1)).findById(TAREFA_ID);
-            verify(tarefaRepository, times(1)).save(any(Tarefa.class));
+            // O flush vem antes do evento para levar a dataAtualizacao do @PreUpdate
+            InOrder ordem = inOrder(tarefaRepository, eventPublisher);
+            ordem.verify(tarefaRepository).save(tarefa);
+            ordem.verify(tarefaRepository).flush();
+            ordem.verify(eventPublisher).publishEvent(any(TarefaChangedEvent.class));
         }
 
         @Test
@@ -200,9 +233,9 @@ class TarefaServiceTest {
         void deveLancarExcecaoAoTentarAtualizarTarefaInexistente() {
             when(tarefaRepository.findById(TAREFA_ID)).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> tarefaService.atualizarTarefa(TAREFA_ID, tarefaDTO))
+            assertThatThrownBy(() -> tarefaService.updateTask(TAREFA_ID, tarefaDTO))
                     .isInstanceOf(TarefaNotFoundException.class)
-                    .hasMessage("Tarefa com ID 1 não foi encontrada");
+                    .hasMessage("Task with ID 1 was not found");
 
             verify(tarefaRepository, times(1)).findById(TAREFA_ID);
             verify(tarefaRepository, never()).save(any(Tarefa.class));
@@ -214,30 +247,32 @@ class TarefaServiceTest {
     class DeletarTarefaTests {
 
         @Test
-        @DisplayName("Deve deletar tarefa com sucesso")
+        @DisplayName("Deve deletar tarefa e registrar o tombstone")
         void deveDeletarTarefaComSucesso() {
-            when(tarefaRepository.existsById(TAREFA_ID)).thenReturn(true);
-            doNothing().when(tarefaRepository).deleteById(TAREFA_ID);
+            when(tarefaRepository.findById(TAREFA_ID)).thenReturn(Optional.of(tarefa));
+            when(versionAllocator.allocate()).thenReturn(8L);
 
-            assertThatCode(() -> tarefaService.deletarTarefa(TAREFA_ID))
+            assertThatCode(() -> tarefaService.deleteTask(TAREFA_ID))
                     .doesNotThrowAnyException();
 
-            verify(tarefaRepository, times(1)).existsById(TAREFA_ID);
-            verify(tarefaRepository, times(1)).deleteById(TAREFA_ID);
+            verify(tarefaRepository, times(1)).delete(tarefa);
+            ArgumentCaptor<TarefaTombstone> tombstone = ArgumentCaptor.forClass(TarefaTombstone.class);
+            verify(tombstoneRepository).save(tombstone.capture());
+            assertThat(tombstone.getValue().getTarefaId()).isEqualTo(TAREFA_ID);
+            assertThat(tombstone.getValue().getVersaoAlteracao()).isEqualTo(8L);
         }
 
         @Test
         @DisplayName("Deve lançar exceção ao tentar deletar tarefa inexistente")
         void deveLancarExcecaoAoTentarDeletarTarefaInexistente() {
-            
-            when(tarefaRepository.existsById(TAREFA_ID)).thenReturn(false);
+            when(tarefaRepository.findById(TAREFA_ID)).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> tarefaService.deletarTarefa(TAREFA_ID))
+            assertThatThrownBy(() -> tarefaService.deleteTask(TAREFA_ID))
                     .isInstanceOf(TarefaNotFoundException.class)
-                    .hasMessage("Tarefa com ID 1 não foi encontrada");
+                    .hasMessage("Task with ID 1 was not found");
 
-            verify(tarefaRepository, times(1)).existsById(TAREFA_ID);
-            verify(tarefaRepository, never()).deleteById(TAREFA_ID);
+            verify(tarefaRepository, never()).delete(any(Tarefa.class));
+            verifyNoInteractions(tombstoneRepository);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,117 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.StatisticsDTO;
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaArquivoRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaStatusCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TarefaStatisticsService - Testes Unitários")
+class TarefaStatisticsServiceTest {
+
+    @Mock
+    private TarefaRepository tarefaRepository;
+
+    @Mock
+    private TarefaArquivoRepository arquivoRepository;
+
+    @InjectMocks
+    private TarefaStatisticsService tarefaStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        when(tarefaRepository.countGroupByStatus()).thenReturn(List.of(
+                contagem(Tarefa.StatusTarefa.PENDENTE, 3L),
+                contagem(Tarefa.StatusTarefa.CONCLUIDA, 2L)));
+        tarefaStatisticsService.reconcile();
+    }
+
+    @Test
+    @DisplayName("Deve carregar contadores a partir do GROUP BY")
+    void deveCarregarContadoresDoGroupBy() {
+        StatisticsDTO estatisticas = tarefaStatisticsService.getStatistics();
+
+        assertThat(estatisticas.getTotal()).isEqualTo(5);
+        assertThat(estatisticas.getPendentes()).isEqualTo(3);
+        assertThat(estatisticas.getConcluidas()).isEqualTo(2);
+        assertThat(estatisticas.getCanceladas()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar contadores em criação, mudança de status e remoção")
+    void deveAtualizarContadoresComEventos() {
+        tarefaStatisticsService.onTarefaChanged(TarefaChangedEvent.created(tarefa(10L, Tarefa.StatusTarefa.PENDENTE)));
+        tarefaStatisticsService.onTarefaChanged(TarefaChangedEvent.updated(
+                tarefa(1L, Tarefa.StatusTarefa.CANCELADA), Tarefa.StatusTarefa.PENDENTE));
+        tarefaStatisticsService.onTarefaChanged(TarefaChangedEvent.deleted(2L, Tarefa.StatusTarefa.CONCLUIDA));
+
+        StatisticsDTO estatisticas = tarefaStatisticsService.getStatistics();
+
+        assertThat(estatisticas.getTotal()).isEqualTo(5);
+        assertThat(estatisticas.getPendentes()).isEqualTo(3);
+        assertThat(estatisticas.getConcluidas()).isEqualTo(1);
+        assertThat(estatisticas.getCanceladas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve corrigir desvios na reconciliação")
+    void deveCorrigirDesviosNaReconciliacao() {
+        tarefaStatisticsService.onTarefaChanged(TarefaChangedEvent.created(tarefa(10L, Tarefa.StatusTarefa.PENDENTE)));
+
+        tarefaStatisticsService.reconcile();
+
+        assertThat(tarefaStatisticsService.getStatistics().getPendentes()).isEqualTo(3);
+        verify(tarefaRepository, times(2)).countGroupByStatus();
+    }
+
+    @Test
+    @DisplayName("Deve somar tarefas arquivadas na reconciliação")
+    void deveSomarTarefasArquivadas() {
+        when(arquivoRepository.countGroupByStatus()).thenReturn(List.of(
+                contagem(Tarefa.StatusTarefa.CONCLUIDA, 40L),
+                contagem(Tarefa.StatusTarefa.CANCELADA, 5L)));
+
+        tarefaStatisticsService.reconcile();
+
+        StatisticsDTO estatisticas = tarefaStatisticsService.getStatistics();
+        assertThat(estatisticas.getTotal()).isEqualTo(50);
+        assertThat(estatisticas.getConcluidas()).isEqualTo(42);
+        assertThat(estatisticas.getCanceladas()).isEqualTo(5);
+    }
+
+    private TarefaResponseDTO tarefa(Long id, Tarefa.StatusTarefa status) {
+        return TarefaResponseDTO.builder()
+                .id(id)
+                .titulo("Tarefa " + id)
+                .status(status)
+                .build();
+    }
+
+    private TarefaStatusCount contagem(Tarefa.StatusTarefa status, Long total) {
+        return new TarefaStatusCount() {
+            @Override
+            public Tarefa.StatusTarefa getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+}
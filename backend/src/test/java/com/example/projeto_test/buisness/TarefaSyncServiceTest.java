@@ -0,0 +1,94 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaChangesDTO;
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.TarefaTombstone;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaTombstoneRepository;
+import com.example.projeto_test.infrastructure.replica.ReplicaWatermarkReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TarefaSyncService - Testes Unitários")
+class TarefaSyncServiceTest {
+
+    private static final long EPOCA = 1760000000000L;
+
+    @Mock
+    private TarefaRepository tarefaRepository;
+
+    @Mock
+    private TarefaTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private TarefaVersionAllocator versionAllocator;
+
+    @Mock
+    private ObjectProvider<ReplicaWatermarkReader> replicaWatermark;
+
+    @InjectMocks
+    private TarefaSyncService tarefaSyncService;
+
+    @BeforeEach
+    void setUp() {
+        when(versionAllocator.getEpoca()).thenReturn(EPOCA);
+        when(versionAllocator.safeVersion()).thenReturn(20L);
+    }
+
+    @Test
+    @DisplayName("Deve retomar a partir da versão de um token da mesma época")
+    void deveRetomarTokenDaMesmaEpoca() {
+        TarefaResponseDTO alterada = new TarefaResponseDTO(
+                1L, "Tarefa", null, Tarefa.StatusTarefa.PENDENTE, LocalDateTime.now(), null, 15L);
+        when(tarefaRepository.findChangedBetween(eq(10L), eq(20L), any(Limit.class))).thenReturn(List.of(alterada));
+        when(tombstoneRepository.findRemovedBetween(eq(10L), eq(20L), any(Limit.class))).thenReturn(List.of());
+
+        TarefaChangesDTO resultado = tarefaSyncService.getChanges(EPOCA + "-10", 100);
+
+        assertThat(resultado.isReset()).isFalse();
+        assertThat(resultado.getUpserts()).containsExactly(alterada);
+        assertThat(resultado.getVersion()).isEqualTo(EPOCA + "-20");
+    }
+
+    @Test
+    @DisplayName("Deve recomeçar do zero com reset quando o token é de outra época")
+    void deveRecomecarComTokenDeOutraEpoca() {
+        TarefaTombstone removida = new TarefaTombstone(2L, 3L, LocalDateTime.now());
+        when(tarefaRepository.findChangedBetween(eq(0L), eq(20L), any(Limit.class))).thenReturn(List.of());
+        when(tombstoneRepository.findRemovedBetween(eq(0L), eq(20L), any(Limit.class))).thenReturn(List.of(removida));
+
+        TarefaChangesDTO resultado = tarefaSyncService.getChanges((EPOCA - 1) + "-10", 100);
+
+        assertThat(resultado.isReset()).isTrue();
+        assertThat(resultado.getDeletions()).containsExactly(2L);
+        assertThat(resultado.getVersion()).isEqualTo(EPOCA + "-20");
+    }
+
+    @Test
+    @DisplayName("Deve recomeçar do zero com reset quando a versão está abaixo do piso de expurgo")
+    void deveRecomecarComVersaoExpurgada() {
+        when(versionAllocator.minimumResumeVersion()).thenReturn(12L);
+        when(tarefaRepository.findChangedBetween(eq(0L), eq(20L), any(Limit.class))).thenReturn(List.of());
+        when(tombstoneRepository.findRemovedBetween(eq(0L), eq(20L), any(Limit.class))).thenReturn(List.of());
+
+        TarefaChangesDTO resultado = tarefaSyncService.getChanges(EPOCA + "-10", 100);
+
+        assertThat(resultado.isReset()).isTrue();
+    }
+}
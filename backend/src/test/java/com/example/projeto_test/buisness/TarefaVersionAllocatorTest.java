@@ -0,0 +1,80 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaTombstoneRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TarefaVersionAllocator - Testes Unitários")
+class TarefaVersionAllocatorTest {
+
+    @Mock
+    private TarefaRepository tarefaRepository;
+
+    @Mock
+    private TarefaTombstoneRepository tombstoneRepository;
+
+    @InjectMocks
+    private TarefaVersionAllocator versionAllocator;
+
+    @BeforeEach
+    void setUp() {
+        when(tarefaRepository.findMaxVersaoAlteracao()).thenReturn(10L);
+        when(tombstoneRepository.findMaxVersaoAlteracao()).thenReturn(12L);
+        versionAllocator.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir da maior versão entre tarefas e tombstones")
+    void deveContinuarDaMaiorVersao() {
+        assertThat(versionAllocator.allocate()).isEqualTo(13);
+        assertThat(versionAllocator.safeVersion()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("Versão segura não passa de uma transação ainda aberta")
+    void versaoSeguraParaNaTransacaoAberta() {
+        List<TransactionSynchronization> primeira = allocateInTransaction();
+        List<TransactionSynchronization> segunda = allocateInTransaction();
+
+        // A segunda (14) confirma antes da primeira (13)
+        complete(segunda);
+        assertThat(versionAllocator.safeVersion()).isEqualTo(12);
+
+        complete(primeira);
+        assertThat(versionAllocator.safeVersion()).isEqualTo(14);
+    }
+
+    private List<TransactionSynchronization> allocateInTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        versionAllocator.allocate();
+        List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return sincronizacoes;
+    }
+
+    private static void complete(List<TransactionSynchronization> sincronizacoes) {
+        sincronizacoes.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.projeto_test.buisness;
+
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaTitulo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TituloTrigramIndex - Testes Unitários")
+class TituloTrigramIndexTest {
+
+    @Mock
+    private TarefaRepository tarefaRepository;
+
+    private TituloTrigramIndex indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new TituloTrigramIndex(tarefaRepository, true);
+        when(tarefaRepository.streamAllTitulos()).thenReturn(Stream.of(
+                titulo(1L, "Estudar Spring Boot"),
+                titulo(2L, "Configurar Docker"),
+                titulo(3L, "Estudar Spring Security")));
+        indice.rebuild();
+    }
+
+    @Test
+    @DisplayName("Deve ficar pronto após a carga inicial")
+    void deveFicarProntoAposCarga() {
+        assertThat(indice.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar IDs por substring do título")
+    void deveEncontrarPorSubstring() {
+        assertThat(indice.search("Spring")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(indice.search("Docker")).containsExactly(2L);
+        assertThat(indice.search("Kubernetes")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve respeitar maiúsculas e minúsculas como o LIKE")
+    void deveRespeitarMaiusculas() {
+        assertThat(indice.search("spring")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve buscar termos de dois caracteres")
+    void deveBuscarTermosCurtos() {
+        assertThat(indice.search("Do")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Deve acompanhar criação, alteração e remoção de tarefas")
+    void deveAcompanharEscritas() {
+        indice.onTarefaChanged(TarefaChangedEvent.created(tarefa(4L, "Revisar Spring Data")));
+        indice.onTarefaChanged(TarefaChangedEvent.updated(tarefa(1L, "Estudar Quarkus"), Tarefa.StatusTarefa.PENDENTE));
+        indice.onTarefaChanged(TarefaChangedEvent.deleted(3L, Tarefa.StatusTarefa.PENDENTE));
+
+        assertThat(indice.search("Spring")).containsExactly(4L);
+        assertThat(indice.search("Quarkus")).containsExactly(1L);
+    }
+
+    private TarefaResponseDTO tarefa(Long id, String titulo) {
+        return TarefaResponseDTO.builder()
+                .id(id)
+                .titulo(titulo)
+                .status(Tarefa.StatusTarefa.PENDENTE)
+                .build();
+    }
+
+    private TarefaTitulo titulo(Long id, String titulo) {
+        return new TarefaTitulo() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitulo() {
+                return titulo;
+            }
+        };
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.projeto_test.controller;
 
+import com.example.projeto_test.buisness.TarefaBatchService;
+import com.example.projeto_test.buisness.TarefaETags;
+import com.example.projeto_test.buisness.TarefaExportService;
+import com.example.projeto_test.buisness.TarefaHistoricoService;
 import com.example.projeto_test.buisness.TarefaService;
 import com.example.projeto_test.dto.TarefaDTO;
+import com.example.projeto_test.dto.TarefaPageDTO;
 import com.example.projeto_test.dto.TarefaResponseDTO;
 import com.example.projeto_test.exception.TarefaNotFoundException;
 import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.metrics.TarefaMetrics;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +20,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
@@ -29,6 +36,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TarefaController.class)
+// O filtro de limite é coberto em RateLimitFilterTest; a fatia MVC não carrega suas propriedades
+@TestPropertySource(properties = "tarefas.ratelimit.enabled=false")
 @DisplayName("TarefaController - Testes de Integração")
 class TarefaControllerTest {
 
@@ -38,6 +47,21 @@ class TarefaControllerTest {
     @MockBean
     private TarefaService tarefaService;
 
+    @MockBean
+    private TarefaExportService tarefaExportService;
+
+    @MockBean
+    private TarefaBatchService tarefaBatchService;
+
+    @MockBean
+    private TarefaETags tarefaETags;
+
+    @MockBean
+    private TarefaMetrics tarefaMetrics;
+
+    @MockBean
+    private TarefaHistoricoService historicoService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -60,6 +84,8 @@ class TarefaControllerTest {
                 .status(Tarefa.StatusTarefa.PENDENTE)
                 .dataCriacao(LocalDateTime.now())
                 .build();
+
+        when(tarefaETags.forList()).thenReturn("\"l1-0\"");
     }
 
     @Nested
@@ -69,7 +95,7 @@ class TarefaControllerTest {
         @Test
         @DisplayName("Deve criar tarefa com sucesso - 201")
         void deveCriarTarefaComSucesso() throws Exception {
-            when(tarefaService.criarTarefa(any(TarefaDTO.class))).thenReturn(tarefaResponseDTO);
+            when(tarefaService.createTask(any(TarefaDTO.class))).thenReturn(tarefaResponseDTO);
 
             mockMvc.perform(post("/tasks")
                             .contentType(MediaType.APPLICATION_JSON)
@@ -83,7 +109,7 @@ class TarefaControllerTest {
                     .andExpect(jsonPath("$.status", is("PENDENTE")))
                     .andExpect(jsonPath("$.dataCriacao", notNullValue()));
 
-            verify(tarefaService, times(1)).criarTarefa(any(TarefaDTO.class));
+            verify(tarefaService, times(1)).createTask(any(TarefaDTO.class));
         }
 
         @Test
@@ -97,10 +123,10 @@ class TarefaControllerTest {
                     .andDo(print())
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.status", is(400)))
-                    .andExpect(jsonPath("$.error", is("Erro de Validação")))
+                    .andExpect(jsonPath("$.error", is("Validation Error")))
                     .andExpect(jsonPath("$.details.titulo", notNullValue()));
 
-            verify(tarefaService, never()).criarTarefa(any(TarefaDTO.class));
+            verify(tarefaService, never()).createTask(any(TarefaDTO.class));
         }
 
         @Test
@@ -114,9 +140,9 @@ class TarefaControllerTest {
                     .andDo(print())
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.status", is(400)))
-                    .andExpect(jsonPath("$.details.titulo", containsString("entre 3 e 100 caracteres")));
+                    .andExpect(jsonPath("$.details.titulo", containsString("between 3 and 100 characters")));
 
-            verify(tarefaService, never()).criarTarefa(any(TarefaDTO.class));
+            verify(tarefaService, never()).createTask(any(TarefaDTO.class));
         }
 
         @Test
@@ -132,7 +158,7 @@ class TarefaControllerTest {
                     .andExpect(jsonPath("$.status", is(400)))
                     .andExpect(jsonPath("$.details.status", notNullValue()));
 
-            verify(tarefaService, never()).criarTarefa(any(TarefaDTO.class));
+            verify(tarefaService, never()).createTask(any(TarefaDTO.class));
         }
 
         @Test
@@ -146,7 +172,7 @@ class TarefaControllerTest {
                     .andExpect(jsonPath("$.status", is(415)))
                     .andExpect(jsonPath("$.error", is("Tipo de Mídia Não Suportado")));
 
-            verify(tarefaService, never()).criarTarefa(any(TarefaDTO.class));
+            verify(tarefaService, never()).createTask(any(TarefaDTO.class));
         }
     }
 
@@ -164,8 +190,10 @@ class TarefaControllerTest {
                     .dataCriacao(LocalDateTime.now())
                     .build();
 
-            List<TarefaResponseDTO> tarefas = Arrays.asList(tarefaResponseDTO, tarefa2);
-            when(tarefaService.listarTarefas()).thenReturn(tarefas);
+            TarefaPageDTO<TarefaResponseDTO> pagina = TarefaPageDTO.<TarefaResponseDTO>builder()
+                    .items(Arrays.asList(tarefaResponseDTO, tarefa2))
+                    .build();
+            when(tarefaService.getTasksPage(null, TarefaService.DEFAULT_PAGE_SIZE)).thenReturn(pagina);
 
             mockMvc.perform(get("/tasks"))
                     .andDo(print())
@@ -175,15 +203,31 @@ class TarefaControllerTest {
                     .andExpect(jsonPath("$[0].id", is(1)))
                     .andExpect(jsonPath("$[0].titulo", is("Implementar Testes")))
                     .andExpect(jsonPath("$[1].id", is(2)))
-                    .andExpect(jsonPath("$[1].titulo", is("Segunda Tarefa")));
+                    .andExpect(jsonPath("$[1].titulo", is("Segunda Tarefa")))
+                    .andExpect(header().doesNotExist(TarefaController.NEXT_CURSOR_HEADER));
 
-            verify(tarefaService, times(1)).listarTarefas();
+            verify(tarefaService, times(1)).getTasksPage(null, TarefaService.DEFAULT_PAGE_SIZE);
+        }
+
+        @Test
+        @DisplayName("Deve enviar o cursor da próxima página no header")
+        void deveEnviarCursorDaProximaPagina() throws Exception {
+            when(tarefaService.getTasksPage("abc", 1)).thenReturn(TarefaPageDTO.<TarefaResponseDTO>builder()
+                    .items(List.of(tarefaResponseDTO))
+                    .next("def")
+                    .build());
+
+            mockMvc.perform(get("/tasks").param("cursor", "abc").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(header().string(TarefaController.NEXT_CURSOR_HEADER, "def"));
         }
 
         @Test
         @DisplayName("Deve retornar lista vazia com sucesso - 200")
         void deveRetornarListaVaziaComSucesso() throws Exception {
-            when(tarefaService.listarTarefas()).thenReturn(Arrays.asList());
+            when(tarefaService.getTasksPage(null, TarefaService.DEFAULT_PAGE_SIZE))
+                    .thenReturn(TarefaPageDTO.<TarefaResponseDTO>builder().items(List.of()).build());
 
             mockMvc.perform(get("/tasks"))
                     .andDo(print())
@@ -191,7 +235,7 @@ class TarefaControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$", hasSize(0)));
 
-            verify(tarefaService, times(1)).listarTarefas();
+            verify(tarefaService, times(1)).getTasksPage(null, TarefaService.DEFAULT_PAGE_SIZE);
         }
     }
 
@@ -203,7 +247,7 @@ class TarefaControllerTest {
         @DisplayName("Deve buscar tarefa por ID com sucesso - 200")
         void deveBuscarTarefaPorIdComSucesso() throws Exception {
           
-            when(tarefaService.buscarTarefaPorId(TAREFA_ID)).thenReturn(tarefaResponseDTO);
+            when(tarefaService.getTaskById(TAREFA_ID)).thenReturn(tarefaResponseDTO);
 
             mockMvc.perform(get("/tasks/{id}", TAREFA_ID))
                     .andDo(print())
@@ -212,13 +256,13 @@ class TarefaControllerTest {
                     .andExpect(jsonPath("$.id", is(TAREFA_ID.intValue())))
                     .andExpect(jsonPath("$.titulo", is("Implementar Testes")));
 
-            verify(tarefaService, times(1)).buscarTarefaPorId(TAREFA_ID);
+            verify(tarefaService, times(1)).getTaskById(TAREFA_ID);
         }
 
         @Test
         @DisplayName("Deve retornar 404 quando tarefa não for encontrada")
         void deveRetornar404QuandoTarefaNaoForEncontrada() throws Exception {
-            when(tarefaService.buscarTarefaPorId(TAREFA_ID))
+            when(tarefaService.getTaskById(TAREFA_ID))
                     .thenThrow(new TarefaNotFoundException(TAREFA_ID));
 
             mockMvc.perform(get("/tasks/{id}", TAREFA_ID))
@@ -226,9 +270,9 @@ class TarefaControllerTest {
                     .andExpect(status().isNotFound())
                     .andExpect(jsonPath("$.status", is(404)))
                     .andExpect(jsonPath("$.error", is("Tarefa Não Encontrada")))
-                    .andExpect(jsonPath("$.message", is("Tarefa com ID 1 não foi encontrada")));
+                    .andExpect(jsonPath("$.message", is("Task with ID 1 was not found")));
 
-            verify(tarefaService, times(1)).buscarTarefaPorId(TAREFA_ID);
+            verify(tarefaService, times(1)).getTaskById(TAREFA_ID);
         }
 
         @Test
@@ -240,7 +284,7 @@ class TarefaControllerTest {
                     .andExpect(jsonPath("$.status", is(400)))
                     .andExpect(jsonPath("$.error", is("Tipo de Parâmetro Inválido")));
 
-            verify(tarefaService, never()).buscarTarefaPorId(any());
+            verify(tarefaService, never()).getTaskById(any());
         }
     }
 
@@ -260,7 +304,7 @@ class TarefaControllerTest {
                     .dataAtualizacao(LocalDateTime.now())
                     .build();
 
-            when(tarefaService.atualizarTarefa(eq(TAREFA_ID), any(TarefaDTO.class)))
+            when(tarefaService.updateTask(eq(TAREFA_ID), any(TarefaDTO.class)))
                     .thenReturn(tarefaAtualizada);
 
             mockMvc.perform(put("/tasks/{id}", TAREFA_ID)
@@ -273,13 +317,13 @@ class TarefaControllerTest {
                     .andExpect(jsonPath("$.titulo", is("Título Atualizado")))
                     .andExpect(jsonPath("$.dataAtualizacao", notNullValue()));
 
-            verify(tarefaService, times(1)).atualizarTarefa(eq(TAREFA_ID), any(TarefaDTO.class));
+            verify(tarefaService, times(1)).updateTask(eq(TAREFA_ID), any(TarefaDTO.class));
         }
 
         @Test
         @DisplayName("Deve retornar 404 ao tentar atualizar tarefa inexistente")
         void deveRetornar404AoTentarAtualizarTarefaInexistente() throws Exception {
-            when(tarefaService.atualizarTarefa(eq(TAREFA_ID), any(TarefaDTO.class)))
+            when(tarefaService.updateTask(eq(TAREFA_ID), any(TarefaDTO.class)))
                     .thenThrow(new TarefaNotFoundException(TAREFA_ID));
 
             mockMvc.perform(put("/tasks/{id}", TAREFA_ID)
@@ -290,7 +334,7 @@ class TarefaControllerTest {
                     .andExpect(jsonPath("$.status", is(404)))
                     .andExpect(jsonPath("$.error", is("Tarefa Não Encontrada")));
 
-            verify(tarefaService, times(1)).atualizarTarefa(eq(TAREFA_ID), any(TarefaDTO.class));
+            verify(tarefaService, times(1)).updateTask(eq(TAREFA_ID), any(TarefaDTO.class));
         }
     }
 
@@ -301,20 +345,20 @@ class TarefaControllerTest {
         @Test
         @DisplayName("Deve deletar tarefa com sucesso - 204")
         void deveDeletarTarefaComSucesso() throws Exception {
-            doNothing().when(tarefaService).deletarTarefa(TAREFA_ID);
+            doNothing().when(tarefaService).deleteTask(TAREFA_ID);
 
             mockMvc.perform(delete("/tasks/{id}", TAREFA_ID))
                     .andDo(print())
                     .andExpect(status().isNoContent());
 
-            verify(tarefaService, times(1)).deletarTarefa(TAREFA_ID);
+            verify(tarefaService, times(1)).deleteTask(TAREFA_ID);
         }
 
         @Test
         @DisplayName("Deve retornar 404 ao tentar deletar tarefa inexistente")
         void deveRetornar404AoTentarDeletarTarefaInexistente() throws Exception {
             doThrow(new TarefaNotFoundException(TAREFA_ID))
-                    .when(tarefaService).deletarTarefa(TAREFA_ID);
+                    .when(tarefaService).deleteTask(TAREFA_ID);
 
             mockMvc.perform(delete("/tasks/{id}", TAREFA_ID))
                     .andDo(print())
@@ -322,7 +366,7 @@ class TarefaControllerTest {
                     .andExpect(jsonPath("$.status", is(404)))
                     .andExpect(jsonPath("$.error", is("Tarefa Não Encontrada")));
 
-            verify(tarefaService, times(1)).deletarTarefa(TAREFA_ID);
+            verify(tarefaService, times(1)).deleteTask(TAREFA_ID);
         }
     }
 
@@ -0,0 +1,42 @@
+package com.example.projeto_test.dto;
+
+import com.example.projeto_test.exception.BusinessRuleException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TarefaCursor - Testes Unitários")
+class TarefaCursorTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar cursor preservando posição")
+    void deveCodificarEDecodificarCursor() {
+        LocalDateTime dataCriacao = LocalDateTime.of(2025, 10, 19, 10, 30, 15, 123456789);
+        TarefaCursor cursor = new TarefaCursor(dataCriacao, 42L);
+
+        TarefaCursor resultado = TarefaCursor.decode(cursor.encode());
+
+        assertThat(resultado.getDataCriacao()).isEqualTo(dataCriacao);
+        assertThat(resultado.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Deve gerar token seguro para URL")
+    void deveGerarTokenSeguroParaUrl() {
+        TarefaCursor cursor = new TarefaCursor(LocalDateTime.now(), Long.MAX_VALUE);
+
+        assertThat(cursor.encode()).matches("^[A-Za-z0-9_-]+$");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido com regra CURSOR_INVALID")
+    void deveRejeitarCursorInvalido() {
+        assertThatThrownBy(() -> TarefaCursor.decode("nao-e-um-cursor"))
+                .isInstanceOf(BusinessRuleException.class)
+                .extracting("rule")
+                .isEqualTo("CURSOR_INVALID");
+    }
+}
@@ -55,7 +55,7 @@ class TarefaDTOTest {
             assertThat(violations).hasSize(1);
             ConstraintViolation<TarefaDTO> violation = violations.iterator().next();
             assertThat(violation.getPropertyPath().toString()).isEqualTo("titulo");
-            assertThat(violation.getMessage()).isEqualTo("Título é obrigatório e não pode estar vazio");
+            assertThat(violation.getMessage()).isEqualTo("Title is required and cannot be empty");
         }
 
         @Test
@@ -69,10 +69,10 @@ class TarefaDTOTest {
           
             Set<ConstraintViolation<TarefaDTO>> violations = validator.validate(tarefa);
 
-            assertThat(violations).hasSize(1);
-            ConstraintViolation<TarefaDTO> violation = violations.iterator().next();
-            assertThat(violation.getPropertyPath().toString()).isEqualTo("titulo");
-            assertThat(violation.getMessage()).isEqualTo("Título é obrigatório e não pode estar vazio");
+            // Vazio também fica abaixo do tamanho mínimo e fora do padrão
+            assertThat(violations).extracting(v -> v.getPropertyPath().toString()).containsOnly("titulo");
+            assertThat(violations).extracting(ConstraintViolation::getMessage)
+                    .contains("Title is required and cannot be empty");
         }
 
         @Test
@@ -88,7 +88,7 @@ class TarefaDTOTest {
             assertThat(violations).hasSize(1);
             ConstraintViolation<TarefaDTO> violation = violations.iterator().next();
             assertThat(violation.getPropertyPath().toString()).isEqualTo("titulo");
-            assertThat(violation.getMessage()).isEqualTo("Título é obrigatório e não pode estar vazio");
+            assertThat(violation.getMessage()).isEqualTo("Title is required and cannot be empty");
         }
 
         @Test
@@ -104,13 +104,14 @@ class TarefaDTOTest {
             assertThat(violations).hasSize(1);
             ConstraintViolation<TarefaDTO> violation = violations.iterator().next();
             assertThat(violation.getPropertyPath().toString()).isEqualTo("titulo");
-            assertThat(violation.getMessage()).isEqualTo("Título deve ter entre 3 e 100 caracteres");
+            assertThat(violation.getMessage()).isEqualTo("Title must be between 3 and 100 characters");
         }
 
         @Test
         @DisplayName("Deve rejeitar título muito longo")
         void deveRejeitarTituloMuitoLongo() {
             String tituloLongo = "A".repeat(101); 
+            TarefaDTO tarefa = TarefaDTO.builder()
                     .titulo(tituloLongo)
                     .status(Tarefa.StatusTarefa.PENDENTE)
                     .build();
@@ -120,7 +121,7 @@ class TarefaDTOTest {
             assertThat(violations).hasSize(1);
             ConstraintViolation<TarefaDTO> violation = violations.iterator().next();
             assertThat(violation.getPropertyPath().toString()).isEqualTo("titulo");
-            assertThat(violation.getMessage()).isEqualTo("Título deve ter entre 3 e 100 caracteres");
+            assertThat(violation.getMessage()).isEqualTo("Title must be between 3 and 100 characters");
         }
 
         @Test
@@ -186,7 +187,8 @@ class TarefaDTOTest {
         @Test
         @DisplayName("Deve rejeitar descrição muito longa")
         void deveRejeitarDescricaoMuitoLonga() {
-            String descricaoLonga = "A".repeat(501); 
+            String descricaoLonga = "A".repeat(1001); 
+            TarefaDTO tarefa = TarefaDTO.builder()
                     .titulo("Título Válido")
                     .descricao(descricaoLonga)
                     .status(Tarefa.StatusTarefa.PENDENTE)
@@ -197,7 +199,7 @@ class TarefaDTOTest {
             assertThat(violations).hasSize(1);
             ConstraintViolation<TarefaDTO> violation = violations.iterator().next();
             assertThat(violation.getPropertyPath().toString()).isEqualTo("descricao");
-            assertThat(violation.getMessage()).isEqualTo("Descrição não pode ter mais de 500 caracteres");
+            assertThat(violation.getMessage()).isEqualTo("Description cannot exceed 1000 characters");
         }
     }
 
@@ -218,7 +220,7 @@ class TarefaDTOTest {
             assertThat(violations).hasSize(1);
             ConstraintViolation<TarefaDTO> violation = violations.iterator().next();
             assertThat(violation.getPropertyPath().toString()).isEqualTo("status");
-            assertThat(violation.getMessage()).isEqualTo("Status é obrigatório");
+            assertThat(violation.getMessage()).isEqualTo("Status is required");
         }
 
         @Test
@@ -270,13 +272,14 @@ class TarefaDTOTest {
         void deveRetornarMultiplasViolacoes() {
             TarefaDTO tarefa = TarefaDTO.builder()
                     .titulo("") 
-                    .descricao("A".repeat(501)) 
+                    .descricao("A".repeat(1001)) 
                     .status(null) 
                     .build();
 
             Set<ConstraintViolation<TarefaDTO>> violations = validator.validate(tarefa);
 
-            assertThat(violations).hasSize(3);
+            assertThat(violations).extracting(v -> v.getPropertyPath().toString())
+                    .containsOnly("titulo", "descricao", "status");
 
             boolean tituloViolation = violations.stream()
                     .anyMatch(v -> v.getPropertyPath().toString().equals("titulo"));
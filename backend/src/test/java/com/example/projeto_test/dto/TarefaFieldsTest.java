@@ -0,0 +1,38 @@
+package com.example.projeto_test.dto;
+
+import com.example.projeto_test.exception.BusinessRuleException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TarefaFields - Testes Unitários")
+class TarefaFieldsTest {
+
+    @Test
+    @DisplayName("Deve manter a ordem informada e ignorar repetições")
+    void deveManterOrdemSemRepeticao() {
+        TarefaFields fields = TarefaFields.parse(" titulo,id, titulo,status ");
+
+        assertThat(fields.getCampos()).containsExactly("titulo", "id", "status");
+        assertThat(fields.key()).isEqualTo("titulo.id.status");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar campo desconhecido com regra FIELDS_INVALID")
+    void deveRejeitarCampoDesconhecido() {
+        assertThatThrownBy(() -> TarefaFields.parse("id,senha"))
+                .isInstanceOf(BusinessRuleException.class)
+                .extracting("rule")
+                .isEqualTo("FIELDS_INVALID");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lista vazia")
+    void deveRejeitarListaVazia() {
+        assertThatThrownBy(() -> TarefaFields.parse(" , "))
+                .isInstanceOf(BusinessRuleException.class)
+                .extracting("rule")
+                .isEqualTo("FIELDS_INVALID");
+    }
+}
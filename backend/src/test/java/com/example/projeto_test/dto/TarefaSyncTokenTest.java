@@ -0,0 +1,31 @@
+package com.example.projeto_test.dto;
+
+import com.example.projeto_test.exception.BusinessRuleException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TarefaSyncToken - Testes Unitários")
+class TarefaSyncTokenTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar token preservando época e versão")
+    void deveCodificarEDecodificarToken() {
+        TarefaSyncToken token = new TarefaSyncToken(1760000000000L, 42L);
+
+        TarefaSyncToken resultado = TarefaSyncToken.decode(token.encode());
+
+        assertThat(resultado.getEpoca()).isEqualTo(1760000000000L);
+        assertThat(resultado.getVersao()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar versão sem época com regra SINCE_INVALID")
+    void deveRejeitarVersaoSemEpoca() {
+        assertThatThrownBy(() -> TarefaSyncToken.decode("42"))
+                .isInstanceOf(BusinessRuleException.class)
+                .extracting("rule")
+                .isEqualTo("SINCE_INVALID");
+    }
+}
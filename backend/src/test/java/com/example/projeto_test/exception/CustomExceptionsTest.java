@@ -25,7 +25,7 @@ class CustomExceptionsTest {
             TarefaNotFoundException exception = new TarefaNotFoundException(id);
 
             assertThat(exception).isNotNull();
-            assertThat(exception.getMessage()).isEqualTo("Tarefa com ID 1 não foi encontrada");
+            assertThat(exception.getMessage()).isEqualTo("Task with ID 1 was not found");
             assertThat(exception.getId()).isEqualTo(id);
             assertThat(exception).isInstanceOf(RuntimeException.class);
         }
@@ -39,7 +39,7 @@ class CustomExceptionsTest {
                 throw new TarefaNotFoundException(id);
             })
             .isInstanceOf(TarefaNotFoundException.class)
-            .hasMessage("Tarefa com ID 999 não foi encontrada");
+            .hasMessage("Task with ID 999 was not found");
         }
     }
 
@@ -0,0 +1,52 @@
+package com.example.projeto_test.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TarefaMetrics - Testes Unitários")
+class TarefaMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private TarefaMetrics tarefaMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        tarefaMetrics = new TarefaMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar um timer por operação já na construção")
+    void deveRegistrarTimersNaConstrucao() {
+        assertThat(registry.find(TarefaMetrics.OPERATION_TIMER).timers())
+                .hasSize(TarefaMetrics.Operacao.values().length);
+    }
+
+    @Test
+    @DisplayName("Deve gravar a duração no timer da operação")
+    void deveGravarDuracao() {
+        tarefaMetrics.record(TarefaMetrics.Operacao.CREATE, System.nanoTime());
+
+        assertThat(registry.get(TarefaMetrics.OPERATION_TIMER).tag("operation", "create").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get(TarefaMetrics.OPERATION_TIMER).tag("operation", "delete").timer().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Deve contar violações separadas por regra")
+    void deveContarViolacoesPorRegra() {
+        tarefaMetrics.businessRuleViolated("ALREADY_COMPLETED");
+        tarefaMetrics.businessRuleViolated("ALREADY_COMPLETED");
+        tarefaMetrics.businessRuleViolated("LIMIT_INVALID");
+
+        assertThat(registry.get(TarefaMetrics.BUSINESS_RULE_COUNTER).tag("rule", "ALREADY_COMPLETED").counter().count())
+                .isEqualTo(2);
+        assertThat(registry.get(TarefaMetrics.BUSINESS_RULE_COUNTER).tag("rule", "LIMIT_INVALID").counter().count())
+                .isEqualTo(1);
+    }
+}
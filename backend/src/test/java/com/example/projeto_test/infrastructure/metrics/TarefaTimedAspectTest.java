@@ -0,0 +1,64 @@
+package com.example.projeto_test.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TarefaTimedAspect - Testes Unitários")
+class TarefaTimedAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private Operacoes operacoes;
+
+    static class Operacoes {
+
+        @TarefaTimed(TarefaMetrics.Operacao.GET)
+        public String buscar() {
+            return "tarefa";
+        }
+
+        @TarefaTimed(TarefaMetrics.Operacao.DELETE)
+        public void remover() {
+            throw new IllegalStateException("falhou");
+        }
+
+        public void semMedicao() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(new Operacoes());
+        fabrica.setProxyTargetClass(true);
+        fabrica.addAspect(new TarefaTimedAspect(new TarefaMetrics(registry)));
+        operacoes = fabrica.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve gravar no timer da operação anotada")
+    void deveGravarNoTimerDaOperacao() {
+        assertThat(operacoes.buscar()).isEqualTo("tarefa");
+        operacoes.semMedicao();
+
+        assertThat(contagem("get")).isEqualTo(1);
+        assertThat(registry.find(TarefaMetrics.OPERATION_TIMER).timers())
+                .allMatch(timer -> timer.getId().getTag("operation").equals("get") || timer.count() == 0);
+    }
+
+    @Test
+    @DisplayName("Deve gravar a duração também quando o método falha")
+    void deveGravarQuandoFalha() {
+        assertThatThrownBy(operacoes::remover).isInstanceOf(IllegalStateException.class);
+
+        assertThat(contagem("delete")).isEqualTo(1);
+    }
+
+    private long contagem(String operacao) {
+        return registry.get(TarefaMetrics.OPERATION_TIMER).tag("operation", operacao).timer().count();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.projeto_test.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.CorsConfiguration;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RateLimitFilter - Testes Unitários")
+class RateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private RateLimitFilter filtro;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRequestsPerSecond(1);
+        properties.setBurst(10);
+        properties.setCosts(Map.of("GET", Map.of("/tasks", 5, "/tasks/{id}", 2, "/tasks/export", 10)));
+        filtro = new RateLimitFilter(properties, objectMapper, request -> {
+            // Mesmo efeito do @CrossOrigin dos controllers
+            CorsConfiguration cors = new CorsConfiguration();
+            cors.addAllowedOrigin("http://localhost:3000");
+            return cors;
+        });
+    }
+
+    @Test
+    @DisplayName("Deve responder 429 com Retry-After e ErrorResponse quando as fichas acabam")
+    void deveResponder429() throws Exception {
+        assertThat(executar("GET", "/tasks", null).getStatus()).isEqualTo(200);
+        assertThat(executar("GET", "/tasks", null).getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse recusada = executar("GET", "/tasks", null);
+
+        assertThat(recusada.getStatus()).isEqualTo(429);
+        assertThat(recusada.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+        JsonNode corpo = objectMapper.readTree(recusada.getContentAsString());
+        assertThat(corpo.get("status").asInt()).isEqualTo(429);
+        assertThat(corpo.get("details").get("custo").asText()).isEqualTo("5");
+    }
+
+    @Test
+    @DisplayName("Deve incluir os headers de CORS na recusa para a origem permitida")
+    void deveIncluirCorsNaRecusa() throws Exception {
+        executar("GET", "/tasks/export", null);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/1");
+        request.addHeader(HttpHeaders.ORIGIN, "http://localhost:3000");
+        MockHttpServletResponse recusada = new MockHttpServletResponse();
+        filtro.doFilter(request, recusada, new MockFilterChain());
+
+        assertThat(recusada.getStatus()).isEqualTo(429);
+        assertThat(recusada.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isEqualTo("http://localhost:3000");
+        assertThat(recusada.getHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS)).isEqualTo(HttpHeaders.RETRY_AFTER);
+    }
+
+    @Test
+    @DisplayName("Deve usar o custo da rota mais específica")
+    void deveUsarRotaMaisEspecifica() throws Exception {
+        assertThat(executar("GET", "/tasks/export", null).getStatus()).isEqualTo(200);
+
+        assertThat(executar("GET", "/tasks/1", null).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Deve identificar o cliente pela chave de API antes do IP")
+    void deveIdentificarPelaChave() throws Exception {
+        executar("GET", "/tasks/export", null);
+
+        assertThat(executar("GET", "/tasks/export", "cliente-a").getStatus()).isEqualTo(200);
+        assertThat(executar("GET", "/tasks/1", null).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Não deve limitar rotas fora de /tasks e /statistics")
+    void naoDeveLimitarOutrasRotas() throws Exception {
+        executar("GET", "/tasks/export", null);
+
+        assertThat(executar("GET", "/actuator/health", null).getStatus()).isEqualTo(200);
+        assertThat(executar("OPTIONS", "/tasks", null).getStatus()).isEqualTo(200);
+        assertThat(executar("GET", "/statistics", null).getStatus()).isEqualTo(429);
+    }
+
+    private MockHttpServletResponse executar(String metodo, String caminho, String chave) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, caminho);
+        if (chave != null) {
+            request.addHeader("X-API-Key", chave);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.projeto_test.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TokenBucketLimiter - Testes Unitários")
+class TokenBucketLimiterTest {
+
+    private static final long SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    // 10 fichas por segundo, rajada de 20
+    private final TokenBucketLimiter limiter = new TokenBucketLimiter(10, 20, 1_000);
+
+    @Test
+    @DisplayName("Deve liberar a rajada inteira e recusar a requisição seguinte")
+    void deveLiberarRajada() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquire("ip:1", 1, 0)).isZero();
+        }
+
+        assertThat(limiter.tryAcquire("ip:1", 1, 0)).isEqualTo(SEGUNDO / 10);
+    }
+
+    @Test
+    @DisplayName("Deve cobrar o custo da rota em fichas")
+    void deveCobrarCusto() {
+        assertThat(limiter.tryAcquire("ip:1", 15, 0)).isZero();
+
+        assertThat(limiter.tryAcquire("ip:1", 10, 0)).isEqualTo(5 * SEGUNDO / 10);
+        assertThat(limiter.tryAcquire("ip:1", 5, 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve repor fichas com o tempo")
+    void deveReporFichas() {
+        assertThat(limiter.tryAcquire("ip:1", 20, 0)).isZero();
+        assertThat(limiter.tryAcquire("ip:1", 1, 0)).isPositive();
+
+        assertThat(limiter.tryAcquire("ip:1", 5, SEGUNDO / 2)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve manter baldes separados por cliente")
+    void deveSepararClientes() {
+        assertThat(limiter.tryAcquire("ip:1", 20, 0)).isZero();
+
+        assertThat(limiter.tryAcquire("ip:2", 20, 0)).isZero();
+        assertThat(limiter.tryAcquire("ip:1", 1, 0)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve manter o número de clientes dentro do limite")
+    void deveLimitarClientes() {
+        for (int i = 0; i < 5_000; i++) {
+            limiter.tryAcquire("ip:" + i, 1, 0);
+        }
+
+        assertThat(limiter.trackedClients()).isLessThanOrEqualTo(1_000);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.projeto_test.infrastructure.readmodel;
+
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TarefaColumns - Testes Unitários")
+class TarefaColumnsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 10, 0, 0, 123_456_789);
+
+    private TarefaColumns colunas;
+
+    @BeforeEach
+    void setUp() {
+        colunas = new TarefaColumns();
+    }
+
+    @AfterEach
+    void tearDown() {
+        colunas.close();
+    }
+
+    @Test
+    @DisplayName("Deve devolver as tarefas da mais recente para a mais antiga, com todos os campos")
+    void deveListarDaMaisRecente() {
+        colunas.put(tarefa(1L, 0, "Estudar Spring", null, Tarefa.StatusTarefa.PENDENTE));
+        colunas.put(tarefa(2L, 1, "Configurar Docker ✓", "Descrição com acentuação", Tarefa.StatusTarefa.CONCLUIDA));
+
+        List<TarefaResponseDTO> pagina = colunas.page(null, null, 10);
+
+        assertThat(pagina).extracting(TarefaResponseDTO::getId).containsExactly(2L, 1L);
+        TarefaResponseDTO primeira = pagina.get(0);
+        assertThat(primeira.getTitulo()).isEqualTo("Configurar Docker ✓");
+        assertThat(primeira.getDescricao()).isEqualTo("Descrição com acentuação");
+        assertThat(primeira.getStatus()).isEqualTo(Tarefa.StatusTarefa.CONCLUIDA);
+        assertThat(primeira.getDataCriacao()).isEqualTo(BASE.plusSeconds(1));
+        assertThat(primeira.getDataAtualizacao()).isNull();
+        assertThat(pagina.get(1).getDescricao()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir do cursor, desempatando pelo id")
+    void deveContinuarDoCursor() {
+        colunas.put(tarefa(1L, 0, "A", null, Tarefa.StatusTarefa.PENDENTE));
+        colunas.put(tarefa(3L, 0, "C", null, Tarefa.StatusTarefa.PENDENTE));
+        colunas.put(tarefa(2L, 0, "B", null, Tarefa.StatusTarefa.PENDENTE));
+        colunas.put(tarefa(4L, 1, "D", null, Tarefa.StatusTarefa.PENDENTE));
+
+        assertThat(colunas.page(BASE, 3L, 10)).extracting(TarefaResponseDTO::getId).containsExactly(2L, 1L);
+        assertThat(colunas.page(null, null, 2)).extracting(TarefaResponseDTO::getId).containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("Deve substituir a tarefa alterada e ignorar as removidas")
+    void deveSubstituirERemover() {
+        colunas.put(tarefa(1L, 0, "Original", "Texto", Tarefa.StatusTarefa.PENDENTE));
+        colunas.put(tarefa(2L, 1, "Outra", null, Tarefa.StatusTarefa.PENDENTE));
+
+        colunas.put(tarefa(1L, 0, "Alterada", null, Tarefa.StatusTarefa.CONCLUIDA));
+        colunas.remove(2L);
+
+        assertThat(colunas.size()).isEqualTo(1);
+        assertThat(colunas.page(null, null, 10))
+                .singleElement()
+                .satisfies(tarefa -> {
+                    assertThat(tarefa.getTitulo()).isEqualTo("Alterada");
+                    assertThat(tarefa.getDescricao()).isNull();
+                    assertThat(tarefa.getStatus()).isEqualTo(Tarefa.StatusTarefa.CONCLUIDA);
+                });
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por status")
+    void deveFiltrarPorStatus() {
+        colunas.put(tarefa(1L, 0, "A", null, Tarefa.StatusTarefa.PENDENTE));
+        colunas.put(tarefa(2L, 1, "B", null, Tarefa.StatusTarefa.CONCLUIDA));
+        colunas.put(tarefa(3L, 2, "C", null, Tarefa.StatusTarefa.PENDENTE));
+        colunas.remove(3L);
+
+        assertThat(colunas.byStatus(Tarefa.StatusTarefa.PENDENTE)).extracting(TarefaResponseDTO::getId).containsExactly(1L);
+        assertThat(colunas.byStatus(Tarefa.StatusTarefa.CONCLUIDA)).extracting(TarefaResponseDTO::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Deve crescer além da capacidade inicial preservando textos e ordem")
+    void deveCrescerPreservandoDados() {
+        for (long id = 1; id <= 1_000; id++) {
+            colunas.put(tarefa(id, id, "Tarefa " + id, "Descrição " + id, Tarefa.StatusTarefa.PENDENTE));
+            if (id % 3 == 0) {
+                colunas.remove(id - 1);
+            }
+        }
+
+        List<TarefaResponseDTO> pagina = colunas.page(null, null, 2_000);
+
+        assertThat(pagina).hasSize(colunas.size());
+        assertThat(pagina.get(0).getTitulo()).isEqualTo("Tarefa 1000");
+        assertThat(pagina.get(pagina.size() - 1).getDescricao()).isEqualTo("Descrição 1");
+        assertThat(pagina).extracting(TarefaResponseDTO::getId).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    private static TarefaResponseDTO tarefa(Long id, long segundos, String titulo, String descricao,
+                                            Tarefa.StatusTarefa status) {
+        return new TarefaResponseDTO(id, titulo, descricao, status, BASE.plusSeconds(segundos), null, id);
+    }
+}
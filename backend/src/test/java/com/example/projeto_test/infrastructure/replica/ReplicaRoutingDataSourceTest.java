@@ -0,0 +1,90 @@
+package com.example.projeto_test.infrastructure.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReplicaRoutingDataSource - Testes Unitários")
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lagMonitor;
+    private ReplicaRoutingDataSource roteador;
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of("tarefas-replica-0", "tarefas-replica-1"));
+        roteador = new ReplicaRoutingDataSource(lagMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve mandar escritas ao principal")
+    void deveMandarEscritasAoPrincipal() {
+        assertThat(roteador.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        verifyNoInteractions(lagMonitor);
+    }
+
+    @Test
+    @DisplayName("Deve alternar leituras readOnly entre as réplicas saudáveis")
+    void deveAlternarLeiturasEntreReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(List.of(roteador.determineCurrentLookupKey(), roteador.determineCurrentLookupKey()))
+                .containsExactlyInAnyOrder("tarefas-replica-0", "tarefas-replica-1");
+    }
+
+    @Test
+    @DisplayName("Deve registrar que a leitura foi servida por uma réplica")
+    void deveRegistrarLeituraDeReplica() {
+        roteador.determineCurrentLookupKey();
+        assertThat(ReplicaRoutingContext.isReadFromReplica()).isFalse();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        roteador.determineCurrentLookupKey();
+
+        assertThat(ReplicaRoutingContext.isReadFromReplica()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve manter no principal as leituras de cliente com escrita recente")
+    void deveFixarClienteComEscritaRecente() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingContext.usePrimary();
+
+        assertThat(roteador.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("Deve mandar ao principal só as leituras dentro de onPrimary")
+    void deveMandarAoPrincipalDentroDeOnPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Object dentro = ReplicaRoutingContext.onPrimary(roteador::determineCurrentLookupKey);
+
+        assertThat(dentro).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(ReplicaRoutingContext.isPrimaryRequired()).isFalse();
+        assertThat(roteador.determineCurrentLookupKey()).isNotEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("Deve voltar ao principal quando nenhuma réplica está dentro do atraso tolerado")
+    void deveVoltarAoPrincipalSemReplicaSaudavel() {
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(roteador.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.projeto_test.infrastructure.sharding;
+
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.example.projeto_test.infrastructure.entitys.Tarefa;
+import com.example.projeto_test.infrastructure.entitys.repository.TarefaStatusCount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ShardedTarefaRepository - Testes com H2 em memória")
+class ShardedTarefaRepositoryTest {
+
+    private TarefaShards shards;
+    private ShardedTarefaRepository repository;
+    private TransactionTemplate transacao;
+
+    @BeforeEach
+    void setUp() {
+        String execucao = UUID.randomUUID().toString().replace("-", "");
+
+        ShardingProperties properties = new ShardingProperties();
+        properties.setPartitions(3);
+        properties.setPoolSize(2);
+        properties.setUrlTemplate("jdbc:h2:mem:shard_%d_" + execucao + ";DB_CLOSE_DELAY=-1");
+        shards = TarefaShards.create(properties);
+
+        DriverManagerDataSource bancoPrincipal =
+                new DriverManagerDataSource("jdbc:h2:mem:ids_" + execucao + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate principal = new JdbcTemplate(bancoPrincipal);
+        principal.execute("CREATE SEQUENCE tarefas_seq START WITH 1 INCREMENT BY 50");
+        repository = new ShardedTarefaRepository(shards, new TarefaIdAllocator(principal));
+        // Faz o papel da transação JPA do serviço
+        transacao = new TransactionTemplate(new DataSourceTransactionManager(bancoPrincipal));
+    }
+
+    @AfterEach
+    void tearDown() {
+        shards.close();
+    }
+
+    @Test
+    @DisplayName("Deve gravar cada tarefa só na partição do seu id")
+    void deveGravarNaParticaoDoId() {
+        List<Tarefa> salvas = salvar(30);
+
+        for (Tarefa tarefa : salvas) {
+            assertThat(repository.findById(tarefa.getId())).isPresent();
+        }
+        assertThat(repository.count()).isEqualTo(30);
+        assertThat(IntStream.range(0, shards.size())
+                .mapToLong(indice -> shards.get(indice).getJdbcTemplate()
+                        .queryForObject("SELECT COUNT(*) FROM tarefas", Long.class))
+                .filter(total -> total > 0)
+                .count()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Deve paginar na mesma ordem global de um banco único")
+    void devePaginarNaOrdemGlobal() {
+        List<Long> esperado = salvar(25).stream()
+                .sorted(Comparator.comparing(Tarefa::getDataCriacao).thenComparing(Tarefa::getId).reversed())
+                .map(Tarefa::getId)
+                .toList();
+
+        List<TarefaResponseDTO> primeira = repository.findFirstPage(Limit.of(10));
+        TarefaResponseDTO ultima = primeira.get(primeira.size() - 1);
+        List<TarefaResponseDTO> segunda = repository.findPageAfter(ultima.getDataCriacao(), ultima.getId(), Limit.of(10));
+
+        assertThat(primeira).extracting(TarefaResponseDTO::getId).containsExactlyElementsOf(esperado.subList(0, 10));
+        assertThat(segunda).extracting(TarefaResponseDTO::getId).containsExactlyElementsOf(esperado.subList(10, 20));
+    }
+
+    @Test
+    @DisplayName("Deve somar contagens por status de todas as partições")
+    void deveSomarContagensPorStatus() {
+        List<Tarefa> salvas = salvar(12);
+        for (Tarefa tarefa : salvas.subList(0, 5)) {
+            repository.updateStatusIfCurrent(tarefa.getId(), Tarefa.StatusTarefa.PENDENTE,
+                    Tarefa.StatusTarefa.CONCLUIDA, tarefa.getDataCriacao(), 100L + tarefa.getId());
+        }
+
+        assertThat(repository.countGroupByStatus())
+                .extracting(TarefaStatusCount::getStatus, TarefaStatusCount::getTotal)
+                .containsExactlyInAnyOrder(
+                        tuple(Tarefa.StatusTarefa.PENDENTE, 7L),
+                        tuple(Tarefa.StatusTarefa.CONCLUIDA, 5L));
+        assertThat(repository.findResponsesByStatus(Tarefa.StatusTarefa.CONCLUIDA)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Deve remover a tarefa da sua partição")
+    void deveRemoverTarefa() {
+        Tarefa tarefa = salvar(1).get(0);
+
+        repository.delete(tarefa);
+
+        assertThat(repository.findById(tarefa.getId())).isEmpty();
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve desfazer em todas as partições quando a transação principal faz rollback")
+    void deveDesfazerComRollbackDaTransacao() {
+        assertThatThrownBy(() -> transacao.executeWithoutResult(status -> {
+            salvar(20);
+            assertThat(repository.count()).isEqualTo(20);
+            throw new IllegalStateException("falha no serviço");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve confirmar em todas as partições com o commit da transação principal")
+    void deveConfirmarComCommitDaTransacao() {
+        transacao.executeWithoutResult(status -> salvar(20));
+
+        assertThat(repository.count()).isEqualTo(20);
+        assertThat(repository.findFirstPage(Limit.of(5))).hasSize(5);
+    }
+
+    private List<Tarefa> salvar(int quantidade) {
+        List<Tarefa> tarefas = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            tarefas.add(Tarefa.builder()
+                    .titulo("Tarefa " + i)
+                    .status(Tarefa.StatusTarefa.PENDENTE)
+                    .versaoAlteracao((long) i + 1)
+                    .build());
+        }
+        return repository.saveAll(tarefas);
+    }
+}
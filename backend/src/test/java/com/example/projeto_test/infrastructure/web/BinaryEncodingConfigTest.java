@@ -0,0 +1,78 @@
+package com.example.projeto_test.infrastructure.web;
+
+import com.example.projeto_test.dto.TarefaResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BinaryEncodingConfig - Testes Unitários")
+class BinaryEncodingConfigTest {
+
+    // Mesma configuração de datas do ObjectMapper do Spring Boot
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("Deve substituir os conversores CBOR e Smile padrão na mesma posição")
+    void deveSubstituirConversoresPadrao() {
+        MappingJackson2CborHttpMessageConverter cborPadrao = new MappingJackson2CborHttpMessageConverter();
+        MappingJackson2SmileHttpMessageConverter smilePadrao = new MappingJackson2SmileHttpMessageConverter();
+        List<HttpMessageConverter<?>> converters = new ArrayList<>(List.of(
+                new MappingJackson2HttpMessageConverter(objectMapper), smilePadrao, cborPadrao));
+
+        new BinaryEncodingConfig(objectMapper).extendMessageConverters(converters);
+
+        assertThat(converters).hasSize(3);
+        assertThat(converters.get(0)).isInstanceOf(MappingJackson2HttpMessageConverter.class);
+        assertThat(converters.get(1)).isInstanceOf(MappingJackson2SmileHttpMessageConverter.class).isNotSameAs(smilePadrao);
+        assertThat(converters.get(2)).isInstanceOf(MappingJackson2CborHttpMessageConverter.class).isNotSameAs(cborPadrao);
+    }
+
+    @Test
+    @DisplayName("Deve codificar datas como arrays de inteiros em CBOR e Smile")
+    void deveCodificarDatasComoArrays() throws Exception {
+        List<HttpMessageConverter<?>> converters = new ArrayList<>(List.of(
+                new MappingJackson2HttpMessageConverter(objectMapper),
+                new MappingJackson2SmileHttpMessageConverter(),
+                new MappingJackson2CborHttpMessageConverter()));
+        new BinaryEncodingConfig(objectMapper).extendMessageConverters(converters);
+        TarefaResponseDTO tarefa = TarefaResponseDTO.builder()
+                .id(1L)
+                .titulo("Tarefa")
+                .dataCriacao(LocalDateTime.of(2024, 5, 10, 14, 30, 15))
+                .build();
+
+        JsonNode cbor = new ObjectMapper(new CBORFactory()).readTree(
+                write((MappingJackson2CborHttpMessageConverter) converters.get(2), tarefa, MediaType.APPLICATION_CBOR));
+        JsonNode smile = new ObjectMapper(new SmileFactory()).readTree(
+                write((MappingJackson2SmileHttpMessageConverter) converters.get(1), tarefa, BinaryEncodingConfig.APPLICATION_SMILE));
+
+        assertThat(cbor.get("dataCriacao").isArray()).isTrue();
+        assertThat(cbor.get("dataCriacao").get(0).asInt()).isEqualTo(2024);
+        assertThat(smile.get("dataCriacao").isArray()).isTrue();
+    }
+
+    private static byte[] write(HttpMessageConverter<Object> converter, Object valor, MediaType tipo) throws Exception {
+        MockHttpOutputMessage saida = new MockHttpOutputMessage();
+        converter.write(valor, tipo, saida);
+        return saida.getBodyAsBytes();
+    }
+}
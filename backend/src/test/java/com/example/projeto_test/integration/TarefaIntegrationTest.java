@@ -4,6 +4,7 @@ import com.example.projeto_test.dto.TarefaDTO;
 import com.example.projeto_test.infrastructure.entitys.Tarefa;
 import com.example.projeto_test.infrastructure.entitys.repository.TarefaRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,10 +12,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -133,7 +136,7 @@ class TarefaIntegrationTest {
                     .andDo(print())
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.status", is(400)))
-                    .andExpect(jsonPath("$.error", is("Erro de Validação")));
+                    .andExpect(jsonPath("$.error", is("Validation Error")));
 
             TarefaDTO tarefaTituloLongo = TarefaDTO.builder()
                     .titulo("A".repeat(101))
@@ -145,7 +148,7 @@ class TarefaIntegrationTest {
                             .content(objectMapper.writeValueAsString(tarefaTituloLongo)))
                     .andDo(print())
                     .andExpect(status().isBadRequest())
-                    .andExpect(jsonPath("$.details.titulo", containsString("entre 3 e 100 caracteres")));
+                    .andExpect(jsonPath("$.details.titulo", containsString("between 3 and 100 characters")));
         }
 
         @Test
@@ -155,7 +158,7 @@ class TarefaIntegrationTest {
                     .andDo(print())
                     .andExpect(status().isNotFound())
                     .andExpect(jsonPath("$.status", is(404)))
-                    .andExpect(jsonPath("$.message", containsString("ID 999 não foi encontrada")));
+                    .andExpect(jsonPath("$.message", containsString("ID 999 was not found")));
 
             TarefaDTO tarefaUpdate = TarefaDTO.builder()
                     .titulo("Não Existe")
@@ -275,6 +278,50 @@ class TarefaIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Requisições Condicionais")
+    // Sem a transação do teste: cache e ETags só são atualizados após o commit
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class RequisicoesCondicionaisTests {
+
+        @AfterEach
+        void tearDown() {
+            tarefaRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Não deve responder 304 ao ETag anterior a uma atualização")
+        void naoDeveResponder304AoETagAnteriorAUmaAtualizacao() throws Exception {
+            TarefaDTO tarefa = TarefaDTO.builder()
+                    .titulo("Tarefa com ETag")
+                    .status(Tarefa.StatusTarefa.PENDENTE)
+                    .build();
+            String criada = mockMvc.perform(post("/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(tarefa)))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            Long tarefaId = objectMapper.readTree(criada).get("id").asLong();
+
+            // Primeira leitura guarda a tarefa no cache
+            String etagAnterior = mockMvc.perform(get("/tasks/{id}", tarefaId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(etagAnterior).isNotNull();
+
+            tarefa.setTitulo("Tarefa com ETag alterada");
+            mockMvc.perform(put("/tasks/{id}", tarefaId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(tarefa)))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/tasks/{id}", tarefaId).header(HttpHeaders.IF_NONE_MATCH, etagAnterior))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(etagAnterior)))
+                    .andExpect(jsonPath("$.titulo", is("Tarefa com ETag alterada")));
+        }
+    }
+
     @Nested
     @DisplayName("Performance e Limites")
     class PerformanceLimitesTests {
@@ -15,6 +15,9 @@ function App() {
     updateTask,
     deleteTask,
     refreshTasks,
+    hasMore,
+    loadingMore,
+    loadMoreTasks,
     filterByStatus,
     searchTasks
   } = useTasks();
@@ -209,6 +212,18 @@ function App() {
         />
       )}
 
+      {connectionStatus === 'connected' && hasMore && (
+        <div style={{ textAlign: 'center', margin: '2rem 0' }}>
+          <button
+            className="refresh-button"
+            onClick={loadMoreTasks}
+            disabled={loadingMore}
+          >
+            {loadingMore ? 'Carregando...' : 'Carregar mais'}
+          </button>
+        </div>
+      )}
+
       {connectionStatus === 'disconnected' && (
         <div className="empty-message">
           <div className="empty-message-icon">⚠️</div>
@@ -1,27 +1,47 @@
-import { useState, useEffect, useCallback } from 'react';
+import { useState, useEffect, useCallback, useRef } from 'react';
 import { TarefaResponseDTO, TarefaDTO, StatusTarefa } from '../types/Task';
-import taskService from '../services/TaskService/TaskService';
+import taskService, { subscribeToTaskChanges } from '../services/TaskService/TaskService';
+import { TaskChangeEvent, TaskChangeSubscription } from '../services/TaskService/TaskService.types';
 import { UseTasksResult } from './useTasks.types';
 
+const STATS_REFRESH_DELAY_MS = 1000;
+
+const applyChange = (list: TarefaResponseDTO[], change: TaskChangeEvent): TarefaResponseDTO[] => {
+  const semTarefa = list.filter(task => task.id !== change.id);
+  if (change.type === 'DELETED' || change.type === 'ARCHIVED' || !change.tarefa) {
+    return semTarefa;
+  }
+  if (change.type === 'CREATED') {
+    return [change.tarefa, ...semTarefa];
+  }
+  return list.map(task => (task.id === change.id ? change.tarefa! : task));
+};
+
 export const useTasks = (): UseTasksResult => {
   const [tasks, setTasks] = useState<TarefaResponseDTO[]>([]);
   const [allTasks, setAllTasks] = useState<TarefaResponseDTO[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [loading, setLoading] = useState<boolean>(true);
+  const [loadingMore, setLoadingMore] = useState<boolean>(false);
   const [error, setError] = useState<string | null>(null);
   const [stats, setStats] = useState({ total: 0, pendentes: 0, concluidas: 0 });
+  const subscriptionRef = useRef<TaskChangeSubscription | null>(null);
+  const statsTimerRef = useRef<ReturnType<typeof setTimeout> | null>(null);
 
   const refreshTasks = useCallback(async () => {
     try {
       setLoading(true);
       setError(null);
       
-      const [tasksData, statsData] = await Promise.all([
-        taskService.getAllTasks(),
+      // Só a primeira página; as demais vêm sob demanda em loadMoreTasks
+      const [page, statsData] = await Promise.all([
+        taskService.getTasksPage(),
         taskService.getTaskStats()
       ]);
       
-      setTasks(tasksData);
-      setAllTasks(tasksData);
+      setTasks(page.tasks);
+      setAllTasks(page.tasks);
+      setNextCursor(page.nextCursor);
       setStats(statsData);
     } catch (err: any) {
       setError(err.response?.data?.message || 'Erro ao carregar tarefas');
@@ -31,44 +51,89 @@ export const useTasks = (): UseTasksResult => {
     }
   }, []);
 
+  const loadMoreTasks = useCallback(async () => {
+    if (!nextCursor || loadingMore) {
+      return;
+    }
+    try {
+      setLoadingMore(true);
+      setError(null);
+      const page = await taskService.getTasksPage(nextCursor);
+      // Uma tarefa criada via SSE entre as páginas não aparece duas vezes
+      const novas = (list: TarefaResponseDTO[]) => {
+        const ids = new Set(list.map(task => task.id));
+        return [...list, ...page.tasks.filter(task => !ids.has(task.id))];
+      };
+      setAllTasks(novas);
+      setTasks(novas);
+      setNextCursor(page.nextCursor);
+    } catch (err: any) {
+      setError(err.response?.data?.message || 'Erro ao carregar tarefas');
+      console.error('Erro ao carregar mais tarefas:', err);
+    } finally {
+      setLoadingMore(false);
+    }
+  }, [nextCursor, loadingMore]);
+
+  // Com o feed SSE conectado a própria alteração chega como evento; sem ele, recarrega
+  const refreshIfDisconnected = useCallback(async () => {
+    if (!subscriptionRef.current?.isConnected()) {
+      await refreshTasks();
+    }
+  }, [refreshTasks]);
+
+  const scheduleStatsRefresh = useCallback(() => {
+    if (statsTimerRef.current) {
+      return;
+    }
+    statsTimerRef.current = setTimeout(async () => {
+      statsTimerRef.current = null;
+      try {
+        setStats(await taskService.getTaskStats());
+      } catch (err) {
+        console.error('Erro ao atualizar estatísticas:', err);
+      }
+    }, STATS_REFRESH_DELAY_MS);
+  }, []);
+
   const createTask = useCallback(async (task: TarefaDTO): Promise<TarefaResponseDTO | null> => {
     try {
       setError(null);
       const newTask = await taskService.createTask(task);
-      await refreshTasks(); 
+      await refreshIfDisconnected();
       return newTask;
     } catch (err: any) {
       setError(err.response?.data?.message || 'Erro ao criar tarefa');
       console.error('Erro ao criar tarefa:', err);
       return null;
     }
-  }, [refreshTasks]);
+  }, [refreshIfDisconnected]);
 
   const updateTask = useCallback(async (id: number, task: TarefaDTO): Promise<TarefaResponseDTO | null> => {
     try {
       setError(null);
       const updatedTask = await taskService.updateTask(id, task);
-      await refreshTasks(); 
+      await refreshIfDisconnected();
       return updatedTask;
     } catch (err: any) {
       setError(err.response?.data?.message || 'Erro ao atualizar tarefa');
       console.error('Erro ao atualizar tarefa:', err);
       return null;
     }
-  }, [refreshTasks]);
+  }, [refreshIfDisconnected]);
 
   const deleteTask = useCallback(async (id: number): Promise<boolean> => {
     try {
       setError(null);
       await taskService.deleteTask(id);
-      await refreshTasks(); 
+      await refreshIfDisconnected();
       return true;
     } catch (err: any) {
       setError(err.response?.data?.message || 'Erro ao deletar tarefa');
       console.error('Erro ao deletar tarefa:', err);
       return false;
     }
-  }, [refreshTasks]);
+  }, [refreshIfDisconnected]);
 
   const filterByStatus = useCallback((status: StatusTarefa | null) => {
     if (status === null) {
@@ -96,6 +161,29 @@ export const useTasks = (): UseTasksResult => {
     refreshTasks();
   }, [refreshTasks]);
 
+  useEffect(() => {
+    const subscription = subscribeToTaskChanges({
+      onChange: (change) => {
+        setAllTasks(prev => applyChange(prev, change));
+        setTasks(prev => applyChange(prev, change));
+        scheduleStatsRefresh();
+      },
+      onResync: () => {
+        refreshTasks();
+      }
+    });
+    subscriptionRef.current = subscription;
+
+    return () => {
+      subscription.close();
+      subscriptionRef.current = null;
+      if (statsTimerRef.current) {
+        clearTimeout(statsTimerRef.current);
+        statsTimerRef.current = null;
+      }
+    };
+  }, [refreshTasks, scheduleStatsRefresh]);
+
   return {
     tasks,
     loading,
@@ -105,6 +193,9 @@ export const useTasks = (): UseTasksResult => {
     updateTask,
     deleteTask,
     refreshTasks,
+    hasMore: nextCursor !== null,
+    loadingMore,
+    loadMoreTasks,
     filterByStatus,
     searchTasks
   };
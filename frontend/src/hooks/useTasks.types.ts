@@ -11,6 +11,9 @@ export interface UseTasksResult {
   updateTask: (id: number, task: TarefaDTO) => Promise<TarefaResponseDTO | null>;
   deleteTask: (id: number) => Promise<boolean>;
   refreshTasks: () => Promise<void>;
+  hasMore: boolean;
+  loadingMore: boolean;
+  loadMoreTasks: () => Promise<void>;
   
   
   filterByStatus: (status: StatusTarefa | null) => void;
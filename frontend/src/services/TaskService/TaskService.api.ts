@@ -2,12 +2,16 @@ import axios, { AxiosResponse, AxiosError } from 'axios';
 import { TarefaDTO, TarefaResponseDTO } from '../../types/Task';
 import { 
   TaskService, 
+  TaskPage,
   TaskStats, 
   ApiConfig, 
   ApiError, 
   ApiErrorResponse,
   API_CONSTANTS,
-  RequestMetrics
+  RequestMetrics,
+  TaskChangeEvent,
+  TaskChangeHandlers,
+  TaskChangeSubscription
 } from './TaskService.types';
 
 const apiConfig: ApiConfig = {
@@ -137,9 +141,15 @@ export const transformTaskFromApi = (task: TarefaResponseDTO): TarefaResponseDTO
 };
 
 export const taskServiceApi: TaskService = {
-  async getAllTasks(): Promise<TarefaResponseDTO[]> {
-    const response: AxiosResponse<TarefaResponseDTO[]> = await api.get(apiConfig.baseURL);
-    return response.data.map(transformTaskFromApi);
+  // Uma página por chamada; a próxima só é pedida quando o usuário quer ver mais
+  async getTasksPage(cursor?: string): Promise<TaskPage> {
+    const response: AxiosResponse<TarefaResponseDTO[]> = await api.get(apiConfig.baseURL, {
+      params: { limit: API_CONSTANTS.PAGE_SIZE, cursor }
+    });
+    return {
+      tasks: response.data.map(transformTaskFromApi),
+      nextCursor: response.headers[API_CONSTANTS.NEXT_CURSOR_HEADER] || null
+    };
   },
 
   async getTaskById(id: number): Promise<TarefaResponseDTO> {
@@ -206,19 +216,8 @@ export const taskServiceApi: TaskService = {
 
   async getTaskStats(): Promise<TaskStats> {
     try {
-      const [all, pending, completed, cancelled] = await Promise.all([
-        this.getAllTasks(),
-        this.getTasksByStatus('PENDENTE').catch(() => []),
-        this.getTasksByStatus('CONCLUIDA').catch(() => []),
-        this.getTasksByStatus('CANCELADA').catch(() => [])
-      ]);
-
-      return {
-        total: all.length,
-        pendentes: pending.length,
-        concluidas: completed.length,
-        canceladas: cancelled.length
-      };
+      const response: AxiosResponse<TaskStats> = await api.get(API_CONSTANTS.STATISTICS_URL);
+      return response.data;
     } catch (error) {
       console.error('Erro ao buscar estatísticas:', error);
       throw new Error('Erro ao carregar estatísticas das tarefas');
@@ -226,6 +225,29 @@ export const taskServiceApi: TaskService = {
   }
 };
 
+// Feed SSE de alterações. O EventSource reconecta sozinho e reenvia o
+// Last-Event-ID, então o servidor repete o que foi perdido ou pede um resync.
+export const subscribeToTaskChanges = (handlers: TaskChangeHandlers): TaskChangeSubscription => {
+  const source = new EventSource(API_CONSTANTS.STREAM_URL);
+
+  API_CONSTANTS.STREAM_EVENTS.forEach((eventName) => {
+    source.addEventListener(eventName, (event) => {
+      try {
+        handlers.onChange(JSON.parse((event as MessageEvent).data) as TaskChangeEvent);
+      } catch (error) {
+        console.error('Evento de alteração inválido:', error);
+      }
+    });
+  });
+
+  source.addEventListener(API_CONSTANTS.RESYNC_EVENT, () => handlers.onResync());
+
+  return {
+    close: () => source.close(),
+    isConnected: () => source.readyState === EventSource.OPEN
+  };
+};
+
 export const getPerformanceMetrics = (): RequestMetrics[] => {
   return [...performanceMetrics];
 };
@@ -6,6 +6,7 @@ import { taskServiceApi } from './TaskService.api';
 export const useTasks = () => {
   const [state, setState] = useState<UseTasksState>({
     tasks: [],
+    nextCursor: null,
     loading: false,
     error: null,
     stats: { total: 0, pendentes: 0, concluidas: 0, canceladas: 0 }
@@ -15,12 +16,13 @@ export const useTasks = () => {
     setState(prev => ({ ...prev, loading: true, error: null }));
     
     try {
-      const tasks = await taskServiceApi.getAllTasks();
+      const page = await taskServiceApi.getTasksPage();
       const stats = await taskServiceApi.getTaskStats();
       
       setState(prev => ({
         ...prev,
-        tasks,
+        tasks: page.tasks,
+        nextCursor: page.nextCursor,
         stats,
         loading: false,
         error: null
@@ -36,6 +38,31 @@ export const useTasks = () => {
     }
   }, []);
 
+  const loadMoreTasks = useCallback(async () => {
+    if (!state.nextCursor) {
+      return;
+    }
+    setState(prev => ({ ...prev, loading: true, error: null }));
+    
+    try {
+      const page = await taskServiceApi.getTasksPage(state.nextCursor);
+      setState(prev => ({
+        ...prev,
+        tasks: [...prev.tasks, ...page.tasks],
+        nextCursor: page.nextCursor,
+        loading: false
+      }));
+    } catch (error) {
+      const errorMessage = error instanceof Error ? error.message : 'Erro ao buscar tarefas';
+      setState(prev => ({
+        ...prev,
+        error: errorMessage,
+        loading: false
+      }));
+      throw error;
+    }
+  }, [state.nextCursor]);
+
   const createTask = useCallback(async (taskData: TarefaDTO): Promise<TarefaResponseDTO> => {
     setState(prev => ({ ...prev, loading: true, error: null }));
     
@@ -114,6 +141,8 @@ export const useTasks = () => {
   return {
     ...state,
     refreshTasks: fetchTasks,
+    hasMore: state.nextCursor !== null,
+    loadMoreTasks,
     createTask,
     updateTask,
     deleteTask
@@ -172,7 +201,7 @@ export const useConnectionStatus = () => {
 
   const testConnection = useCallback(async () => {
     try {
-      await taskServiceApi.getAllTasks();
+      await taskServiceApi.getTasksPage();
       setLastError(null);
       return true;
     } catch (error) {
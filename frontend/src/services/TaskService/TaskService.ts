@@ -10,18 +10,23 @@ export {
   getAverageResponseTime,
   getErrorRate,
   clearPerformanceMetrics,
-  testApiConnection
+  testApiConnection,
+  subscribeToTaskChanges
 } from './TaskService.api';
 
 export type {
   TaskService,
+  TaskPage,
   TaskStats,
   UseTasksState,
   ApiConfig,
   ApiError,
   ApiErrorResponse,
   TaskFilter,
-  RequestMetrics
+  RequestMetrics,
+  TaskChangeEvent,
+  TaskChangeHandlers,
+  TaskChangeSubscription
 } from './TaskService.types';
 
 export {
@@ -7,15 +7,21 @@ export interface TaskStats {
   canceladas: number;
 }
 
+export interface TaskPage {
+  tasks: TarefaResponseDTO[];
+  nextCursor: string | null;
+}
+
 export interface UseTasksState {
   tasks: TarefaResponseDTO[];
+  nextCursor: string | null;
   loading: boolean;
   error: string | null;
   stats: TaskStats;
 }
 
 export interface TaskService {
-  getAllTasks(): Promise<TarefaResponseDTO[]>;
+  getTasksPage(cursor?: string): Promise<TaskPage>;
   getTaskById(id: number): Promise<TarefaResponseDTO>;
   createTask(task: TarefaDTO): Promise<TarefaResponseDTO>;
   updateTask(id: number, task: TarefaDTO): Promise<TarefaResponseDTO>;
@@ -24,6 +30,24 @@ export interface TaskService {
   getTaskStats(): Promise<TaskStats>;
 }
 
+export type TaskChangeType = 'CREATED' | 'UPDATED' | 'DELETED' | 'ARCHIVED';
+
+export interface TaskChangeEvent {
+  type: TaskChangeType;
+  id: number;
+  tarefa?: TarefaResponseDTO;
+}
+
+export interface TaskChangeHandlers {
+  onChange: (event: TaskChangeEvent) => void;
+  onResync: () => void;
+}
+
+export interface TaskChangeSubscription {
+  close: () => void;
+  isConnected: () => boolean;
+}
+
 export interface ApiConfig {
   baseURL: string;
   timeout: number;
@@ -60,6 +84,12 @@ export const API_CONSTANTS = {
     TASKS_BY_STATUS: (status: string) => `/status/${status}`,
     TASK_STATS: '/stats'
   },
+  STATISTICS_URL: 'http://localhost:8080/statistics/summary',
+  STREAM_URL: 'http://localhost:8080/tasks/stream',
+  STREAM_EVENTS: ['created', 'updated', 'deleted', 'archived'],
+  RESYNC_EVENT: 'resync',
+  PAGE_SIZE: 50,
+  NEXT_CURSOR_HEADER: 'x-next-cursor',
   TIMEOUT: 10000,
   HEADERS: {
     'Content-Type': 'application/json',
@@ -23,6 +23,7 @@ export interface TarefaResponseDTO {
   status: StatusTarefa;
   dataCriacao: string;
   dataAtualizacao: string;
+  versaoAlteracao?: number;
 }
 
 export interface ApiError {